@@ -0,0 +1,49 @@
+package com.skypro.simplebanking.benchmark;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.service.AccountService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AccountServiceBenchmark {
+  private AccountService accountService;
+  private long userId;
+  private long accountId;
+
+  @Setup(Level.Trial)
+  public void setUp(BankingContext context) {
+    accountService = context.bean(AccountService.class);
+    UserDTO user = context.createUser();
+    userId = user.getId();
+    accountId = BankingContext.accountId(user, AccountCurrency.USD);
+    accountService.depositToAccount(userId, accountId, Long.MAX_VALUE / 2);
+  }
+
+  @Benchmark
+  public AccountDTO deposit() {
+    return accountService.depositToAccount(userId, accountId, 1);
+  }
+
+  @Benchmark
+  public AccountDTO withdraw() {
+    return accountService.withdrawFromAccount(userId, accountId, 1);
+  }
+}
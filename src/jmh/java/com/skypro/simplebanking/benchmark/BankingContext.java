@@ -0,0 +1,87 @@
+package com.skypro.simplebanking.benchmark;
+
+import com.skypro.simplebanking.SimpleBankingApplication;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.service.UserService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+public class BankingContext {
+  public static final String PASSWORD = "benchmark-password";
+
+  private final AtomicLong userSequence = new AtomicLong();
+  private EmbeddedPostgres postgres;
+  private ConfigurableApplicationContext context;
+
+  @Setup(Level.Trial)
+  public void start() throws IOException {
+    start(new String[0]);
+  }
+
+  public void start(String... extraArgs) throws IOException {
+    postgres = EmbeddedPostgres.builder().start();
+    run(extraArgs);
+  }
+
+  /** Restarts the application against the same database, e.g. to pass ids created by a run. */
+  public void restart(String... extraArgs) {
+    context.close();
+    run(extraArgs);
+  }
+
+  private void run(String... extraArgs) {
+    List<String> args =
+        new ArrayList<>(
+            List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=ERROR"));
+    args.addAll(List.of(extraArgs));
+    context =
+        new SpringApplicationBuilder(SimpleBankingApplication.class)
+            .logStartupInfo(false)
+            .run(args.toArray(new String[0]));
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() throws IOException {
+    context.close();
+    postgres.close();
+  }
+
+  public <T> T bean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  public String nextUsername() {
+    return "benchmark-user-" + userSequence.incrementAndGet();
+  }
+
+  public UserDTO createUser() {
+    return bean(UserService.class).createUser(nextUsername(), PASSWORD);
+  }
+
+  public static long accountId(UserDTO user, AccountCurrency currency) {
+    return user.getAccounts().stream()
+        .filter(account -> account.getCurrency() == currency)
+        .map(AccountDTO::getId)
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,67 @@
+package com.skypro.simplebanking.benchmark;
+
+import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.dto.UserAccountRow;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+  private User user;
+  private List<UserAccountRow> rows;
+
+  @Setup
+  public void setUp() {
+    user = new User();
+    user.setId(1L);
+    user.setUsername("benchmark-user");
+    user.setAccounts(new ArrayList<>());
+    long accountId = 1;
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      Account account = new Account();
+      account.setId(accountId++);
+      account.setUser(user);
+      account.setAccountCurrency(currency);
+      account.setAmount(1L);
+      user.getAccounts().add(account);
+    }
+    rows = new ArrayList<>();
+    for (Account account : user.getAccounts()) {
+      rows.add(
+          new UserAccountRow(
+              user.getId(), user.getUsername(), account.getId(), account.getAccountCurrency()));
+    }
+  }
+
+  @Benchmark
+  public UserDTO userDto() {
+    return UserDTO.from(user);
+  }
+
+  @Benchmark
+  public List<ListUserDTO> listUserDto() {
+    List<ListUserDTO> users = new ArrayList<>(1);
+    ListUserDTO.group(rows.iterator(), users::add);
+    return users;
+  }
+}
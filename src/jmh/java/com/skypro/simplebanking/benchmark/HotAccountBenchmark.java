@@ -0,0 +1,65 @@
+package com.skypro.simplebanking.benchmark;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.service.AccountService;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class HotAccountBenchmark {
+  @State(Scope.Benchmark)
+  public static class HotAccountContext {
+    @Param({"0", "1", "4", "16"})
+    public int stripes;
+
+    private final BankingContext banking = new BankingContext();
+    private AccountService accountService;
+    private long userId;
+    private long hotAccountId;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+      banking.start("--app.accounts.hot-ids=");
+      UserDTO user = banking.createUser();
+      userId = user.getId();
+      hotAccountId = BankingContext.accountId(user, AccountCurrency.USD);
+      if (stripes > 0) {
+        banking.restart(
+            "--app.accounts.hot-ids=" + hotAccountId, "--app.accounts.stripes=" + stripes);
+      }
+      accountService = banking.bean(AccountService.class);
+      accountService.getAccount(userId, hotAccountId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+      banking.stop();
+    }
+  }
+
+  @Benchmark
+  public AccountDTO deposit(HotAccountContext context) {
+    return context.accountService.depositToAccount(context.userId, context.hotAccountId, 1);
+  }
+}
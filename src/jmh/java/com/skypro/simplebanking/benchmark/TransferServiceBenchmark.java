@@ -0,0 +1,53 @@
+package com.skypro.simplebanking.benchmark;
+
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.TransferService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransferServiceBenchmark {
+  private TransferService transferService;
+  private long sourceUserId;
+  private TransferRequest transferRequest;
+
+  @Setup(Level.Trial)
+  public void setUp(BankingContext context) {
+    transferService = context.bean(TransferService.class);
+    UserDTO source = context.createUser();
+    UserDTO destination = context.createUser();
+    sourceUserId = source.getId();
+    long sourceAccountId = BankingContext.accountId(source, AccountCurrency.USD);
+    context
+        .bean(AccountService.class)
+        .depositToAccount(sourceUserId, sourceAccountId, Long.MAX_VALUE / 2);
+    transferRequest = new TransferRequest();
+    transferRequest.setFromAccountId(sourceAccountId);
+    transferRequest.setToUserId(destination.getId());
+    transferRequest.setToAccountId(BankingContext.accountId(destination, AccountCurrency.USD));
+    transferRequest.setAmount(1);
+  }
+
+  @Benchmark
+  public void transfer() {
+    transferService.transfer(sourceUserId, transferRequest);
+  }
+}
@@ -0,0 +1,46 @@
+package com.skypro.simplebanking.benchmark;
+
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.service.UserService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserServiceBenchmark {
+  private BankingContext context;
+  private UserService userService;
+  private String existingUsername;
+
+  @Setup(Level.Trial)
+  public void setUp(BankingContext context) {
+    this.context = context;
+    userService = context.bean(UserService.class);
+    existingUsername = context.createUser().getUsername();
+  }
+
+  @Benchmark
+  public UserDTO createUser() {
+    return userService.createUser(context.nextUsername(), BankingContext.PASSWORD);
+  }
+
+  @Benchmark
+  public UserDetails loadUserByUsername() {
+    return userService.loadUserByUsername(existingUsername);
+  }
+}
@@ -0,0 +1,31 @@
+package com.skypro.simplebanking.loadtest;
+
+public enum Endpoint {
+  ACCOUNT("account"),
+  DEPOSIT("deposit"),
+  WITHDRAW("withdraw"),
+  TRANSFER("transfer"),
+  ASYNC_TRANSFER("async_transfer"),
+  ME("me"),
+  LIST("list"),
+  INVALID("invalid");
+
+  private final String key;
+
+  Endpoint(String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public static Endpoint fromKey(String key) {
+    for (Endpoint endpoint : values()) {
+      if (endpoint.key.equals(key)) {
+        return endpoint;
+      }
+    }
+    throw new IllegalArgumentException("Unknown endpoint: " + key);
+  }
+}
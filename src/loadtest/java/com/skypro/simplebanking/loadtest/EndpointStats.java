@@ -0,0 +1,44 @@
+package com.skypro.simplebanking.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+public class EndpointStats {
+  private static final long MAX_TRACKABLE_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final Recorder recorder = new Recorder(MAX_TRACKABLE_LATENCY_NANOS, 3);
+  private final LongAdder errors = new LongAdder();
+
+  public void record(long latencyNanos, boolean success) {
+    recorder.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_LATENCY_NANOS));
+    if (!success) {
+      errors.increment();
+    }
+  }
+
+  public void reset() {
+    recorder.reset();
+    errors.reset();
+  }
+
+  public Map<String, Object> report(double elapsedSeconds) {
+    Histogram histogram = recorder.getIntervalHistogram();
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("requests", histogram.getTotalCount());
+    report.put("errors", errors.sum());
+    report.put("throughputPerSecond", histogram.getTotalCount() / elapsedSeconds);
+    report.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+    report.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+    report.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+    report.put("maxMillis", millis(histogram.getMaxValue()));
+    return report;
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
@@ -0,0 +1,92 @@
+package com.skypro.simplebanking.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LoadTestConfig {
+  private final Map<String, String> values;
+  private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+
+  private LoadTestConfig(Map<String, String> values) {
+    this.values = values;
+    for (String entry : get("mix", "account:40,deposit:20,withdraw:10,transfer:20,me:8,list:2")
+        .split(",")) {
+      String[] weight = entry.split(":");
+      mix.put(Endpoint.fromKey(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+    }
+  }
+
+  public static LoadTestConfig parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Expected key=value but got: " + arg);
+      }
+      values.put(arg.substring(0, separator), arg.substring(separator + 1));
+    }
+    return new LoadTestConfig(values);
+  }
+
+  public String getBaseUrl() {
+    return values.get("baseUrl");
+  }
+
+  public int getUsers() {
+    return Integer.parseInt(get("users", "100"));
+  }
+
+  public int getThreads() {
+    return Integer.parseInt(get("threads", "32"));
+  }
+
+  public int getWarmupSeconds() {
+    return Integer.parseInt(get("warmup", "10"));
+  }
+
+  public int getDurationSeconds() {
+    return Integer.parseInt(get("duration", "30"));
+  }
+
+  public double getHotUserFraction() {
+    return Double.parseDouble(get("hotUsers", "0.05"));
+  }
+
+  public double getHotTrafficRatio() {
+    return Double.parseDouble(get("hotTraffic", "0.5"));
+  }
+
+  public boolean isTokenAuth() {
+    return "token".equals(get("auth", "basic"));
+  }
+
+  public String getReportPath() {
+    return get("report", "target/loadtest-report.json");
+  }
+
+  public Map<Endpoint, Integer> getMix() {
+    return mix;
+  }
+
+  public List<String> getApplicationArgs() {
+    List<String> args = new ArrayList<>();
+    values.forEach(
+        (key, value) -> {
+          if (key.startsWith("app.") || key.startsWith("spring.")) {
+            args.add("--" + key + "=" + value);
+          }
+        });
+    return args;
+  }
+
+  public Map<String, String> asMap() {
+    return values;
+  }
+
+  private String get(String key, String defaultValue) {
+    return values.getOrDefault(key, defaultValue);
+  }
+}
@@ -0,0 +1,353 @@
+package com.skypro.simplebanking.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skypro.simplebanking.SimpleBankingApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class LoadTestHarness {
+  private static final String ADMIN_KEY = "SUPER_SECRET_KEY_FROM_ADMIN";
+  private static final String PASSWORD = "load-test-password";
+  private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+  private final LoadTestConfig config;
+  private final String baseUrl;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+  private final List<LoadUser> users = new ArrayList<>();
+  private final PoolSampler poolSampler;
+  private volatile boolean running = true;
+
+  public LoadTestHarness(LoadTestConfig config, String baseUrl) {
+    this.config = config;
+    this.baseUrl = baseUrl;
+    this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    for (Endpoint endpoint : Endpoint.values()) {
+      stats.put(endpoint, new EndpointStats());
+    }
+    this.poolSampler = new PoolSampler(httpClient, baseUrl);
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.parse(args);
+    if (config.getBaseUrl() != null) {
+      new LoadTestHarness(config, config.getBaseUrl()).run();
+      return;
+    }
+    try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+      List<String> applicationArgs =
+          new ArrayList<>(
+              List.of(
+                  "--server.port=0",
+                  "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                  "--spring.datasource.username=postgres",
+                  "--spring.datasource.password=postgres",
+                  "--logging.level.root=WARN",
+                  "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=ERROR"));
+      applicationArgs.addAll(config.getApplicationArgs());
+      if (applicationArgs.stream().noneMatch(arg -> arg.startsWith("--app.rate-limit.enabled="))) {
+        applicationArgs.add("--app.rate-limit.enabled=false");
+      }
+      try (ConfigurableApplicationContext context =
+          SpringApplication.run(
+              SimpleBankingApplication.class, applicationArgs.toArray(new String[0]))) {
+        String port = context.getEnvironment().getProperty("local.server.port");
+        new LoadTestHarness(config, "http://localhost:" + port).run();
+      }
+    }
+  }
+
+  public void run() throws Exception {
+    createUsers();
+    ExecutorService workers = Executors.newFixedThreadPool(config.getThreads() + 1);
+    for (int i = 0; i < config.getThreads(); i++) {
+      workers.submit(this::work);
+    }
+    workers.submit(poolSampler);
+    TimeUnit.SECONDS.sleep(config.getWarmupSeconds());
+    stats.values().forEach(EndpointStats::reset);
+    poolSampler.reset();
+    long measurementStart = System.nanoTime();
+    TimeUnit.SECONDS.sleep(config.getDurationSeconds());
+    double elapsedSeconds = (System.nanoTime() - measurementStart) / 1_000_000_000.0;
+    Map<String, Object> report = report(elapsedSeconds);
+    running = false;
+    poolSampler.stop();
+    workers.shutdown();
+    workers.awaitTermination(1, TimeUnit.MINUTES);
+    File reportFile = new File(config.getReportPath());
+    if (reportFile.getParentFile() != null) {
+      reportFile.getParentFile().mkdirs();
+    }
+    objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+    System.out.println(objectMapper.writeValueAsString(report));
+  }
+
+  private void createUsers() throws IOException, InterruptedException {
+    String runId = Long.toString(System.currentTimeMillis(), 36);
+    for (int i = 0; i < config.getUsers(); i++) {
+      String username = "load-" + runId + "-" + i;
+      JsonNode user =
+          expectJson(
+              send(
+                  "POST",
+                  "/user",
+                  "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}",
+                  "X-SECURITY-ADMIN-KEY",
+                  ADMIN_KEY));
+      long accountId = -1;
+      for (JsonNode account : user.get("accounts")) {
+        if ("USD".equals(account.get("currency").asText())) {
+          accountId = account.get("id").asLong();
+        }
+      }
+      String authorization =
+          "Basic "
+              + Base64.getEncoder()
+                  .encodeToString((username + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+      if (config.isTokenAuth()) {
+        JsonNode token =
+            expectJson(send("POST", "/user/token", null, "Authorization", authorization));
+        authorization = "Bearer " + token.get("token").asText();
+      }
+      LoadUser loadUser = new LoadUser(user.get("id").asLong(), accountId, authorization);
+      expectJson(
+          send(
+              "POST",
+              "/account/deposit/" + accountId,
+              "{\"amount\":" + INITIAL_BALANCE + "}",
+              "Authorization",
+              authorization));
+      users.add(loadUser);
+    }
+  }
+
+  private void work() {
+    int totalWeight = config.getMix().values().stream().mapToInt(Integer::intValue).sum();
+    while (running) {
+      Endpoint endpoint = pickEndpoint(totalWeight);
+      LoadUser user = pickUser();
+      long start = System.nanoTime();
+      boolean success;
+      try {
+        int status = execute(endpoint, user).statusCode();
+        success = endpoint == Endpoint.INVALID ? status == 400 : status / 100 == 2;
+      } catch (IOException e) {
+        success = false;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      stats.get(endpoint).record(System.nanoTime() - start, success);
+    }
+  }
+
+  private HttpResponse<String> execute(Endpoint endpoint, LoadUser user)
+      throws IOException, InterruptedException {
+    switch (endpoint) {
+      case ACCOUNT:
+        return send("GET", "/account/" + user.accountId, null, "Authorization", user.authorization);
+      case DEPOSIT:
+        return send(
+            "POST",
+            "/account/deposit/" + user.accountId,
+            "{\"amount\":1}",
+            "Authorization",
+            user.authorization);
+      case WITHDRAW:
+        return send(
+            "POST",
+            "/account/withdraw/" + user.accountId,
+            "{\"amount\":1}",
+            "Authorization",
+            user.authorization);
+      case TRANSFER:
+        LoadUser destination = pickDestination(user);
+        return send(
+            "POST",
+            "/transfer",
+            "{\"fromAccountId\":"
+                + user.accountId
+                + ",\"toUserId\":"
+                + destination.id
+                + ",\"toAccountId\":"
+                + destination.accountId
+                + ",\"amount\":1}",
+            "Authorization",
+            user.authorization);
+      case ASYNC_TRANSFER:
+        LoadUser asyncDestination = pickDestination(user);
+        return send(
+            "POST",
+            "/transfer/async",
+            "{\"fromAccountId\":"
+                + user.accountId
+                + ",\"toUserId\":"
+                + asyncDestination.id
+                + ",\"toAccountId\":"
+                + asyncDestination.accountId
+                + ",\"amount\":1}",
+            "Authorization",
+            user.authorization);
+      case ME:
+        return send("GET", "/user/me", null, "Authorization", user.authorization);
+      case LIST:
+        return send("GET", "/user/list", null, "Authorization", user.authorization);
+      case INVALID:
+        return sendInvalid(user);
+      default:
+        throw new IllegalStateException("Unexpected endpoint: " + endpoint);
+    }
+  }
+
+  private HttpResponse<String> sendInvalid(LoadUser user)
+      throws IOException, InterruptedException {
+    switch (ThreadLocalRandom.current().nextInt(3)) {
+      case 0:
+        return send(
+            "POST",
+            "/account/withdraw/" + user.accountId,
+            "{\"amount\":-1}",
+            "Authorization",
+            user.authorization);
+      case 1:
+        return send(
+            "POST",
+            "/transfer",
+            "{\"fromAccountId\":"
+                + user.accountId
+                + ",\"toUserId\":"
+                + user.id
+                + ",\"toAccountId\":"
+                + user.accountId
+                + ",\"amount\":1}",
+            "Authorization",
+            user.authorization);
+      default:
+        LoadUser destination = pickUser();
+        return send(
+            "POST",
+            "/transfer",
+            "{\"fromAccountId\":"
+                + user.accountId
+                + ",\"toUserId\":"
+                + destination.id
+                + ",\"toAccountId\":"
+                + destination.accountId
+                + ",\"amount\":0}",
+            "Authorization",
+            user.authorization);
+    }
+  }
+
+  private Endpoint pickEndpoint(int totalWeight) {
+    int target = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (Map.Entry<Endpoint, Integer> weight : config.getMix().entrySet()) {
+      target -= weight.getValue();
+      if (target < 0) {
+        return weight.getKey();
+      }
+    }
+    throw new IllegalStateException("Empty request mix");
+  }
+
+  private LoadUser pickUser() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int hotUsers = Math.max(1, (int) (users.size() * config.getHotUserFraction()));
+    if (random.nextDouble() < config.getHotTrafficRatio()) {
+      return users.get(random.nextInt(hotUsers));
+    }
+    return users.get(random.nextInt(users.size()));
+  }
+
+  private LoadUser pickDestination(LoadUser source) {
+    LoadUser destination = pickUser();
+    while (destination == source && users.size() > 1) {
+      destination = pickUser();
+    }
+    return destination;
+  }
+
+  private Map<String, Object> report(double elapsedSeconds) {
+    Map<String, Object> endpoints = new LinkedHashMap<>();
+    long totalRequests = 0;
+    for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+      if (!config.getMix().containsKey(entry.getKey())) {
+        continue;
+      }
+      Map<String, Object> endpointReport = entry.getValue().report(elapsedSeconds);
+      totalRequests += (Long) endpointReport.get("requests");
+      endpoints.put(entry.getKey().getKey(), endpointReport);
+    }
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("config", config.asMap());
+    report.put("durationSeconds", elapsedSeconds);
+    report.put("throughputPerSecond", totalRequests / elapsedSeconds);
+    report.put(
+        "allocatedBytesPerRequest",
+        totalRequests == 0 ? 0 : poolSampler.allocatedBytes() / totalRequests);
+    report.put("endpoints", endpoints);
+    report.put("connectionPool", poolSampler.report());
+    report.put("transferQueue", poolSampler.queueReport(elapsedSeconds));
+    return report;
+  }
+
+  private HttpResponse<String> send(String method, String path, String body, String... headers)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .method(
+                method,
+                body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(body))
+            .header("Content-Type", "application/json");
+    for (int i = 0; i < headers.length; i += 2) {
+      request.header(headers[i], headers[i + 1]);
+    }
+    return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private JsonNode expectJson(HttpResponse<String> response) throws IOException {
+    if (response.statusCode() / 100 != 2) {
+      throw new IllegalStateException(
+          "Setup request failed with " + response.statusCode() + ": " + response.body());
+    }
+    return objectMapper.readTree(response.body());
+  }
+
+  private static class LoadUser {
+    private final long id;
+    private final long accountId;
+    private final String authorization;
+
+    private LoadUser(long id, long accountId, String authorization) {
+      this.id = id;
+      this.accountId = accountId;
+      this.authorization = authorization;
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.skypro.simplebanking.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PoolSampler implements Runnable {
+  private static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+  private final HttpClient httpClient;
+  private final URI prometheusUri;
+  private final LongAdder failures = new LongAdder();
+  private volatile boolean running = true;
+  private long samples;
+  private double pendingSum;
+  private double pendingMax;
+  private double activeSum;
+  private double activeMax;
+  private double queueDepthSum;
+  private double queueDepthMax;
+  private double queueCompletedAtReset = -1;
+  private double queueCompleted;
+  private double allocatedAtReset = -1;
+  private double allocated;
+
+  public PoolSampler(HttpClient httpClient, String baseUrl) {
+    this.httpClient = httpClient;
+    this.prometheusUri = URI.create(baseUrl + "/actuator/prometheus");
+  }
+
+  @Override
+  public void run() {
+    while (running) {
+      try {
+        sample();
+      } catch (IOException e) {
+        failures.increment();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  public void stop() {
+    running = false;
+  }
+
+  public synchronized void reset() {
+    samples = 0;
+    failures.reset();
+    pendingSum = 0;
+    pendingMax = 0;
+    activeSum = 0;
+    activeMax = 0;
+    queueDepthSum = 0;
+    queueDepthMax = 0;
+    queueCompletedAtReset = -1;
+    allocatedAtReset = -1;
+  }
+
+  public synchronized Map<String, Object> report() {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("samples", samples);
+    report.put("failedSamples", failures.sum());
+    report.put("pendingMean", samples == 0 ? 0 : pendingSum / samples);
+    report.put("pendingMax", pendingMax);
+    report.put("activeMean", samples == 0 ? 0 : activeSum / samples);
+    report.put("activeMax", activeMax);
+    return report;
+  }
+
+  public synchronized Map<String, Object> queueReport(double elapsedSeconds) {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("depthMean", samples == 0 ? 0 : queueDepthSum / samples);
+    report.put("depthMax", queueDepthMax);
+    report.put(
+        "completedPerSecond",
+        queueCompletedAtReset < 0 ? 0 : (queueCompleted - queueCompletedAtReset) / elapsedSeconds);
+    return report;
+  }
+
+  public synchronized double allocatedBytes() {
+    return allocatedAtReset < 0 ? 0 : allocated - allocatedAtReset;
+  }
+
+  private void sample() throws IOException, InterruptedException {
+    HttpResponse<String> response =
+        httpClient.send(
+            HttpRequest.newBuilder(prometheusUri).timeout(Duration.ofSeconds(30)).build(),
+            HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IOException("Prometheus endpoint returned " + response.statusCode());
+    }
+    double pending = 0;
+    double active = 0;
+    double queueDepth = 0;
+    double completed = 0;
+    double allocatedBytes = 0;
+    for (String line : response.body().split("\n")) {
+      if (line.startsWith("hikaricp_connections_pending{")
+          || line.startsWith("banking_datasource_permits_pending{")) {
+        pending += value(line);
+      } else if (line.startsWith("hikaricp_connections_active{")) {
+        active += value(line);
+      } else if (line.startsWith("banking_transfer_queue_depth{status=\"pending\"")) {
+        queueDepth += value(line);
+      } else if (line.startsWith(
+          "banking_transfer_queue_latency_seconds_count{outcome=\"completed\"")) {
+        completed += value(line);
+      } else if (line.startsWith("jvm_gc_memory_allocated_bytes_total")) {
+        allocatedBytes += value(line);
+      }
+    }
+    synchronized (this) {
+      samples++;
+      pendingSum += pending;
+      pendingMax = Math.max(pendingMax, pending);
+      activeSum += active;
+      activeMax = Math.max(activeMax, active);
+      queueDepthSum += queueDepth;
+      queueDepthMax = Math.max(queueDepthMax, queueDepth);
+      queueCompleted = completed;
+      if (queueCompletedAtReset < 0) {
+        queueCompletedAtReset = completed;
+      }
+      allocated = allocatedBytes;
+      if (allocatedAtReset < 0) {
+        allocatedAtReset = allocatedBytes;
+      }
+    }
+  }
+
+  private static double value(String line) {
+    return Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+  }
+}
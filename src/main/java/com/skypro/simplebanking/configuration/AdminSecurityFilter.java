@@ -1,6 +1,7 @@
 package com.skypro.simplebanking.configuration;
 
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.metrics.BankingMetrics;
 import java.io.IOException;
 import java.util.Optional;
 import javax.servlet.FilterChain;
@@ -19,9 +20,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class AdminSecurityFilter extends OncePerRequestFilter {
   private final String adminToken;
+  private final BankingMetrics bankingMetrics;
 
-  public AdminSecurityFilter(@Value("${app.security.admin-token}") String adminToken) {
+  public AdminSecurityFilter(
+      @Value("${app.security.admin-token}") String adminToken, BankingMetrics bankingMetrics) {
     this.adminToken = adminToken;
+    this.bankingMetrics = bankingMetrics;
   }
 
   @Override
@@ -38,6 +42,10 @@ public class AdminSecurityFilter extends OncePerRequestFilter {
           context.setAuthentication(details);
           SecurityContextHolder.setContext(context);
         });
+    if (StringUtils.hasText(request.getHeader("X-SECURITY-ADMIN-KEY"))) {
+      bankingMetrics.countAdminAuthentication(
+          authenticatedUserDetails.isPresent() ? "accepted" : "rejected");
+    }
     filterChain.doFilter(request, response);
   }
 
@@ -0,0 +1,10 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+public class BearerTokenAuthentication extends UsernamePasswordAuthenticationToken {
+  public BearerTokenAuthentication(BankingUserDetails userDetails) {
+    super(userDetails, null, userDetails.getAuthorities());
+  }
+}
@@ -0,0 +1,50 @@
+package com.skypro.simplebanking.configuration;
+
+import java.io.IOException;
+import java.util.Optional;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class BearerTokenSecurityFilter extends OncePerRequestFilter {
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final BearerTokenService bearerTokenService;
+
+  public BearerTokenSecurityFilter(BearerTokenService bearerTokenService) {
+    this.bearerTokenService = bearerTokenService;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    Optional<BearerTokenAuthentication> authenticatedUserDetails =
+        authenticateByBearerToken(request);
+    authenticatedUserDetails.ifPresent(
+        details -> {
+          SecurityContext context = SecurityContextHolder.createEmptyContext();
+          context.setAuthentication(details);
+          SecurityContextHolder.setContext(context);
+        });
+    filterChain.doFilter(request, response);
+  }
+
+  private Optional<BearerTokenAuthentication> authenticateByBearerToken(
+      HttpServletRequest request) {
+    return Optional.ofNullable(request.getHeader(HttpHeaders.AUTHORIZATION))
+        .filter(header -> header.startsWith(BEARER_PREFIX))
+        .flatMap(header -> bearerTokenService.verify(header.substring(BEARER_PREFIX.length())))
+        .map(BearerTokenAuthentication::new);
+  }
+}
@@ -0,0 +1,86 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.TokenDTO;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BearerTokenService {
+  private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+  private static final String ADMIN_ROLE = "ADMIN";
+  private static final String USER_ROLE = "USER";
+
+  private final SecretKeySpec signingKey;
+  private final Duration ttl;
+
+  public BearerTokenService(
+      @Value("${app.security.token.secret}") String secret,
+      @Value("${app.security.token.ttl}") Duration ttl) {
+    this.signingKey =
+        new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM);
+    this.ttl = ttl;
+  }
+
+  public TokenDTO issue(BankingUserDetails userDetails) {
+    long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+    String payload =
+        userDetails.getId()
+            + ":"
+            + (userDetails.isAdmin() ? ADMIN_ROLE : USER_ROLE)
+            + ":"
+            + expiresAt
+            + ":"
+            + userDetails.getUsername();
+    byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String token =
+        encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(payloadBytes));
+    return new TokenDTO(token, expiresAt);
+  }
+
+  public Optional<BankingUserDetails> verify(String token) {
+    int separator = token.indexOf('.');
+    if (separator < 0) {
+      return Optional.empty();
+    }
+    byte[] payloadBytes;
+    byte[] signature;
+    try {
+      Base64.Decoder decoder = Base64.getUrlDecoder();
+      payloadBytes = decoder.decode(token.substring(0, separator));
+      signature = decoder.decode(token.substring(separator + 1));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    if (!MessageDigest.isEqual(signature, sign(payloadBytes))) {
+      return Optional.empty();
+    }
+    String[] claims = new String(payloadBytes, StandardCharsets.UTF_8).split(":", 4);
+    if (claims.length != 4 || Long.parseLong(claims[2]) < Instant.now().getEpochSecond()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new BankingUserDetails(
+            Long.parseLong(claims[0]), claims[3], "****", ADMIN_ROLE.equals(claims[1])));
+  }
+
+  private byte[] sign(byte[] payload) {
+    try {
+      Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+      mac.init(signingKey);
+      return mac.doFinal(payload);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+  private final DaoAuthenticationProvider delegate;
+  private final VerifiedCredentialCache credentialCache;
+  private final BankingMetrics bankingMetrics;
+
+  public CachingAuthenticationProvider(
+      UserDetailsService userDetailsService,
+      PasswordEncoder passwordEncoder,
+      VerifiedCredentialCache credentialCache,
+      BankingMetrics bankingMetrics) {
+    this.delegate = new DaoAuthenticationProvider();
+    this.delegate.setUserDetailsService(
+        username ->
+            bankingMetrics.recordAuthPhase(
+                "lookup", () -> userDetailsService.loadUserByUsername(username)));
+    this.delegate.setPasswordEncoder(new TimedPasswordEncoder(passwordEncoder, bankingMetrics));
+    this.credentialCache = credentialCache;
+    this.bankingMetrics = bankingMetrics;
+  }
+
+  @Override
+  public Authentication authenticate(Authentication authentication)
+      throws AuthenticationException {
+    if (authentication.getCredentials() == null) {
+      return delegate.authenticate(authentication);
+    }
+    Timer.Sample sample = bankingMetrics.startAuthentication();
+    String username = authentication.getName();
+    String presentedPassword = authentication.getCredentials().toString();
+    Optional<BankingUserDetails> cachedUserDetails =
+        credentialCache.get(username, presentedPassword);
+    if (cachedUserDetails.isPresent()) {
+      BankingUserDetails userDetails = cachedUserDetails.get();
+      bankingMetrics.stopAuthentication(sample, "cache_hit");
+      return UsernamePasswordAuthenticationToken.authenticated(
+          userDetails, null, userDetails.getAuthorities());
+    }
+    Authentication result;
+    try {
+      result = delegate.authenticate(authentication);
+    } catch (AuthenticationException e) {
+      bankingMetrics.stopAuthentication(sample, "rejected");
+      throw e;
+    }
+    if (result.getPrincipal() instanceof BankingUserDetails) {
+      credentialCache.put(
+          username, presentedPassword, (BankingUserDetails) result.getPrincipal());
+    }
+    bankingMetrics.stopAuthentication(sample, "verified");
+    return result;
+  }
+
+  @Override
+  public boolean supports(Class<?> authentication) {
+    return delegate.supports(authentication);
+  }
+
+  private static class TimedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final BankingMetrics bankingMetrics;
+
+    private TimedPasswordEncoder(PasswordEncoder delegate, BankingMetrics bankingMetrics) {
+      this.delegate = delegate;
+      this.bankingMetrics = bankingMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return bankingMetrics.recordAuthPhase(
+          "password", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+      return delegate.upgradeEncoding(encodedPassword);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+  private final RateLimitProperties properties;
+  private final BankingMetrics bankingMetrics;
+  private final Semaphore permits;
+
+  public ConcurrencyLimitFilter(RateLimitProperties properties, BankingMetrics bankingMetrics) {
+    this.properties = properties;
+    this.bankingMetrics = bankingMetrics;
+    this.permits = new Semaphore(properties.getMaxConcurrentRequests());
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.isEnabled() || request.getServletPath().startsWith("/actuator/");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!acquire()) {
+      bankingMetrics.countRateLimited("concurrency", RateLimitedEndpoint.of(request).getKey());
+      response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+      response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+      return;
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private boolean acquire() throws ServletException {
+    try {
+      return permits.tryAcquire(properties.getQueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServletException(e);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.skypro.simplebanking.configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Caps how many threads may hold or wait for a connection, independently of the pool size. In
+ * virtual-thread mode every request can reach the pool at once; they queue on this fair semaphore
+ * instead, bounded by app.datasource.acquire-timeout and visible as
+ * banking.datasource.permits.pending. The limit is app.datasource.max-concurrency, kept below the
+ * Hikari pool size so PostgreSQL concurrency can be tuned without resizing the pool.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+  private final Semaphore permits;
+  private final long acquireTimeoutNanos;
+
+  public ConnectionLimitingDataSource(
+      DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return limited(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  public int getQueueLength() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        throw new SQLTransientConnectionException(
+            "Timed out waiting for a database connection permit");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted waiting for a connection permit", e);
+    }
+  }
+
+  private Connection limited(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              if (isClose(method) && released.compareAndSet(false, true)) {
+                try {
+                  return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                  throw e.getTargetException();
+                } finally {
+                  permits.release();
+                }
+              }
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+              }
+            });
+  }
+
+  private static boolean isClose(Method method) {
+    return "close".equals(method.getName()) && method.getParameterCount() == 0;
+  }
+}
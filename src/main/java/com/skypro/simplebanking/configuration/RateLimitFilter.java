@@ -0,0 +1,101 @@
+package com.skypro.simplebanking.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+  private static final int ENDPOINT_BITS = 3;
+
+  private final RateLimitProperties properties;
+  private final BankingMetrics bankingMetrics;
+  private final Cache<Long, TokenBucket> buckets;
+
+  public RateLimitFilter(RateLimitProperties properties, BankingMetrics bankingMetrics) {
+    this.properties = properties;
+    this.bankingMetrics = bankingMetrics;
+    this.buckets =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaxTrackedBuckets())
+            .expireAfterAccess(properties.getBucketIdleTimeout())
+            .build();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !(authentication.getPrincipal() instanceof BankingUserDetails)
+        || ((BankingUserDetails) authentication.getPrincipal()).isAdmin()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    long userId = ((BankingUserDetails) authentication.getPrincipal()).getId();
+    RateLimitedEndpoint endpoint = RateLimitedEndpoint.of(request);
+    RateLimitProperties.Limit limit = properties.limitFor(endpoint);
+    TokenBucket bucket =
+        buckets.get(
+            (userId << ENDPOINT_BITS) | endpoint.ordinal(),
+            key -> new TokenBucket(limit.getRequestsPerSecond(), limit.getBurst()));
+    long retryAfterNanos = bucket.tryConsume();
+    if (retryAfterNanos > 0) {
+      bankingMetrics.countRateLimited("rate", endpoint.getKey());
+      response.setHeader(
+          HttpHeaders.RETRY_AFTER,
+          Long.toString(TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos) + 1));
+      response.sendError(HttpStatus.TOO_MANY_REQUESTS.value());
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private static class TokenBucket {
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+    private TokenBucket(double requestsPerSecond, int burst) {
+      this.nanosPerToken = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+      this.burstNanos = nanosPerToken * Math.max(1, burst);
+    }
+
+    private long tryConsume() {
+      while (true) {
+        long now = System.nanoTime();
+        long current = theoreticalArrival.get();
+        long next = Math.max(current, now) + nanosPerToken;
+        if (next - now > burstNanos) {
+          return next - now - burstNanos;
+        }
+        if (theoreticalArrival.compareAndSet(current, next)) {
+          return 0;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.skypro.simplebanking.configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+  private boolean enabled = true;
+  private int maxConcurrentRequests = 100;
+  private Duration queueTimeout = Duration.ZERO;
+  private long maxTrackedBuckets = 100_000;
+  private Duration bucketIdleTimeout = Duration.ofMinutes(5);
+  private Limit defaultLimit = new Limit();
+  private Map<RateLimitedEndpoint, Limit> endpoints = new EnumMap<>(RateLimitedEndpoint.class);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+  }
+
+  public Duration getQueueTimeout() {
+    return queueTimeout;
+  }
+
+  public void setQueueTimeout(Duration queueTimeout) {
+    this.queueTimeout = queueTimeout;
+  }
+
+  public long getMaxTrackedBuckets() {
+    return maxTrackedBuckets;
+  }
+
+  public void setMaxTrackedBuckets(long maxTrackedBuckets) {
+    this.maxTrackedBuckets = maxTrackedBuckets;
+  }
+
+  public Duration getBucketIdleTimeout() {
+    return bucketIdleTimeout;
+  }
+
+  public void setBucketIdleTimeout(Duration bucketIdleTimeout) {
+    this.bucketIdleTimeout = bucketIdleTimeout;
+  }
+
+  public Limit getDefaultLimit() {
+    return defaultLimit;
+  }
+
+  public void setDefaultLimit(Limit defaultLimit) {
+    this.defaultLimit = defaultLimit;
+  }
+
+  public Map<RateLimitedEndpoint, Limit> getEndpoints() {
+    return endpoints;
+  }
+
+  public void setEndpoints(Map<RateLimitedEndpoint, Limit> endpoints) {
+    this.endpoints = endpoints;
+  }
+
+  public Limit limitFor(RateLimitedEndpoint endpoint) {
+    return endpoints.getOrDefault(endpoint, defaultLimit);
+  }
+
+  public static class Limit {
+    private double requestsPerSecond = 50;
+    private int burst = 100;
+
+    public double getRequestsPerSecond() {
+      return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+      this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public int getBurst() {
+      return burst;
+    }
+
+    public void setBurst(int burst) {
+      this.burst = burst;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.skypro.simplebanking.configuration;
+
+import javax.servlet.http.HttpServletRequest;
+
+public enum RateLimitedEndpoint {
+  TRANSFER("transfer"),
+  ACCOUNT_WRITE("account-write"),
+  ACCOUNT_READ("account-read"),
+  USER_LIST("user-list"),
+  OTHER("other");
+
+  private final String key;
+
+  RateLimitedEndpoint(String key) {
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public static RateLimitedEndpoint of(HttpServletRequest request) {
+    String path = request.getServletPath();
+    if (path.startsWith("/transfer")) {
+      return TRANSFER;
+    }
+    if (path.startsWith("/account/deposit/") || path.startsWith("/account/withdraw/")) {
+      return ACCOUNT_WRITE;
+    }
+    if (path.startsWith("/account/")) {
+      return ACCOUNT_READ;
+    }
+    if (path.startsWith("/user/list")) {
+      return USER_LIST;
+    }
+    return OTHER;
+  }
+}
@@ -0,0 +1,63 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+  private final ReplicaStalenessPolicy stalenessPolicy;
+
+  public ReadWriteRoutingDataSource(
+      DataSource primaryDataSource,
+      DataSource replicaDataSource,
+      ReplicaStalenessPolicy stalenessPolicy) {
+    this.stalenessPolicy = stalenessPolicy;
+    setTargetDataSources(
+        Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+    setDefaultTargetDataSource(primaryDataSource);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    Long userId = currentUserId();
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (userId != null) {
+        recordWriteAfterCommit(userId);
+      }
+      return Target.PRIMARY;
+    }
+    return stalenessPolicy.requiresPrimary(userId) ? Target.PRIMARY : Target.REPLICA;
+  }
+
+  private void recordWriteAfterCommit(long userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      stalenessPolicy.recordWrite(userId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            stalenessPolicy.recordWrite(userId);
+          }
+        });
+  }
+
+  private static Long currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof BankingUserDetails) {
+      return ((BankingUserDetails) authentication.getPrincipal()).getId();
+    }
+    return null;
+  }
+
+  private enum Target {
+    PRIMARY,
+    REPLICA
+  }
+}
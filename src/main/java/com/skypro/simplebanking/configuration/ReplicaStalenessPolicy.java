@@ -0,0 +1,68 @@
+package com.skypro.simplebanking.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Component
+public class ReplicaStalenessPolicy {
+  private final Cache<Long, Boolean> recentWriters;
+  private final Cache<String, Boolean> recentUsernames;
+  private final ThreadLocal<Boolean> primaryReads = new ThreadLocal<>();
+
+  public ReplicaStalenessPolicy(
+      @Value("${app.datasource.replica.url:}") String replicaUrl,
+      @Value("${app.datasource.replica.read-your-writes}") Duration readYourWrites,
+      @Value("${app.datasource.replica.max-tracked-users}") long maxTrackedUsers) {
+    boolean tracked = StringUtils.hasText(replicaUrl) && !readYourWrites.isZero();
+    this.recentWriters = tracked ? tracker(readYourWrites, maxTrackedUsers) : null;
+    this.recentUsernames = tracked ? tracker(readYourWrites, maxTrackedUsers) : null;
+  }
+
+  private static <K> Cache<K, Boolean> tracker(Duration readYourWrites, long maxTrackedUsers) {
+    return Caffeine.newBuilder()
+        .maximumSize(maxTrackedUsers)
+        .expireAfterWrite(readYourWrites)
+        .build();
+  }
+
+  public void recordWrite(long userId) {
+    if (recentWriters != null) {
+      recentWriters.put(userId, Boolean.TRUE);
+    }
+  }
+
+  public void recordWrite(long userId, String username) {
+    recordWrite(userId);
+    if (recentUsernames != null) {
+      recentUsernames.put(username, Boolean.TRUE);
+    }
+  }
+
+  public <T> T readFromPrimary(Supplier<T> reads) {
+    if (primaryReads.get() != null) {
+      return reads.get();
+    }
+    primaryReads.set(Boolean.TRUE);
+    try {
+      return reads.get();
+    } finally {
+      primaryReads.remove();
+    }
+  }
+
+  public boolean requiresPrimary(Long userId) {
+    if (primaryReads.get() != null) {
+      return true;
+    }
+    return userId != null && recentWriters != null && recentWriters.getIfPresent(userId) != null;
+  }
+
+  public boolean requiresPrimary(String username) {
+    return recentUsernames != null && recentUsernames.getIfPresent(username) != null;
+  }
+}
@@ -1,18 +1,25 @@
 package com.skypro.simplebanking.configuration;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfiguration {
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -21,7 +28,12 @@ public class SecurityConfiguration {
 
     @Bean
     public SecurityFilterChain httpSecurity(
-            HttpSecurity httpSecurity, AdminSecurityFilter adminSecurityFilter) throws Exception {
+            HttpSecurity httpSecurity,
+            AdminSecurityFilter adminSecurityFilter,
+            BearerTokenSecurityFilter bearerTokenSecurityFilter,
+            ConcurrencyLimitFilter concurrencyLimitFilter,
+            RateLimitFilter rateLimitFilter,
+            CachingAuthenticationProvider cachingAuthenticationProvider) throws Exception {
         return httpSecurity
                 .csrf()
                 .disable()
@@ -35,22 +47,43 @@ public class SecurityConfiguration {
                 .and()
                 .httpBasic()
                 .and()
+                .authenticationProvider(cachingAuthenticationProvider)
                 .sessionManagement()
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .authorizeHttpRequests()
                 .antMatchers(HttpMethod.POST, "/user/")
                 .hasRole("ADMIN")
+                .antMatchers("/user/import")
+                .hasRole("ADMIN")
+                .antMatchers(HttpMethod.POST, "/user/token")
+                .access(passwordAuthenticatedUser())
                 .antMatchers("/user/*")
                 .hasRole("USER")
+                .antMatchers("/user/list/**")
+                .hasRole("USER")
                 .antMatchers("/account/**")
                 .hasRole("USER")
                 .antMatchers("/transfer/**")
                 .hasRole("USER")
+                .antMatchers("/actuator/health", "/actuator/prometheus")
+                .permitAll()
                 .anyRequest()
                 .authenticated()
                 .and()
                 .addFilterBefore(adminSecurityFilter, AnonymousAuthenticationFilter.class)
+                .addFilterBefore(bearerTokenSecurityFilter, AnonymousAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, AnonymousAuthenticationFilter.class)
+                .addFilterBefore(concurrencyLimitFilter, BasicAuthenticationFilter.class)
                 .build();
     }
+
+    private static AuthorizationManager<RequestAuthorizationContext> passwordAuthenticatedUser() {
+        AuthorizationManager<RequestAuthorizationContext> user =
+                AuthorityAuthorizationManager.hasRole("USER");
+        return (authentication, context) ->
+                authentication.get() instanceof BearerTokenAuthentication
+                        ? new AuthorizationDecision(false)
+                        : user.check(authentication, context);
+    }
 }
@@ -0,0 +1,104 @@
+package com.skypro.simplebanking.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedCredentialCache implements MeterBinder {
+  private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+  private final Cache<String, VerifiedCredential> credentials;
+  private final SecretKeySpec digestKey;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public VerifiedCredentialCache(
+      @Value("${app.security.credential-cache.max-size}") long maxSize,
+      @Value("${app.security.credential-cache.ttl}") Duration ttl) {
+    byte[] key = new byte[32];
+    new SecureRandom().nextBytes(key);
+    this.digestKey = new SecretKeySpec(key, DIGEST_ALGORITHM);
+    this.credentials = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+  }
+
+  public Optional<BankingUserDetails> get(String username, String presentedPassword) {
+    VerifiedCredential credential = credentials.getIfPresent(username);
+    if (credential != null && MessageDigest.isEqual(credential.digest, digest(presentedPassword))) {
+      hits.increment();
+      return Optional.of(credential.userDetails);
+    }
+    misses.increment();
+    return Optional.empty();
+  }
+
+  public void put(String username, String presentedPassword, BankingUserDetails userDetails) {
+    credentials.put(username, new VerifiedCredential(digest(presentedPassword), userDetails));
+  }
+
+  public void evict(String username) {
+    credentials.invalidate(username);
+  }
+
+  public void evictAll() {
+    credentials.invalidateAll();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getSize() {
+    return credentials.estimatedSize();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("banking.auth.cache.requests", hits, LongAdder::sum)
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("banking.auth.cache.requests", misses, LongAdder::sum)
+        .tag("result", "miss")
+        .register(registry);
+    Gauge.builder("banking.auth.cache.size", credentials, Cache::estimatedSize).register(registry);
+  }
+
+  private byte[] digest(String presentedPassword) {
+    try {
+      Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+      mac.init(digestKey);
+      return mac.doFinal(presentedPassword.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class VerifiedCredential {
+    private final byte[] digest;
+    private final BankingUserDetails userDetails;
+
+    private VerifiedCredential(byte[] digest, BankingUserDetails userDetails) {
+      this.digest = digest;
+      this.userDetails = userDetails;
+    }
+  }
+}
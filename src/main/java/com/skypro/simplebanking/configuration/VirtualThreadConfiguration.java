@@ -0,0 +1,88 @@
+package com.skypro.simplebanking.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "app.threads.mode", havingValue = "virtual")
+public class VirtualThreadConfiguration {
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService virtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(
+          "app.threads.mode=virtual requires Java 21 or newer, running on "
+              + Runtime.version(),
+          e);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+      ExecutorService virtualThreadExecutor) {
+    return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+  }
+
+  @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+  public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+    return new TaskExecutorAdapter(virtualThreadExecutor);
+  }
+
+  @Bean
+  public MeterBinder connectionPermitMetrics(Map<String, DataSource> dataSources) {
+    return registry ->
+        dataSources.forEach(
+            (name, dataSource) -> {
+              if (dataSource instanceof ConnectionLimitingDataSource) {
+                ConnectionLimitingDataSource limited = (ConnectionLimitingDataSource) dataSource;
+                Gauge.builder(
+                        "banking.datasource.permits.pending",
+                        limited,
+                        ConnectionLimitingDataSource::getQueueLength)
+                    .tag("datasource", name)
+                    .register(registry);
+                Gauge.builder(
+                        "banking.datasource.permits.available",
+                        limited,
+                        ConnectionLimitingDataSource::getAvailablePermits)
+                    .tag("datasource", name)
+                    .register(registry);
+              }
+            });
+  }
+
+  @Bean
+  public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+      @Value("${app.datasource.max-concurrency}") int maxConcurrency,
+      @Value("${app.datasource.acquire-timeout}") Duration acquireTimeout) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof DelegatingDataSource)) {
+          return new ConnectionLimitingDataSource((DataSource) bean, maxConcurrency, acquireTimeout);
+        }
+        return bean;
+      }
+    };
+  }
+}
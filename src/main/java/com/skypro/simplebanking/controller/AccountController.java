@@ -3,7 +3,12 @@ package com.skypro.simplebanking.controller;
 import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.dto.BalanceChangeRequest;
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.LedgerEntryDTO;
 import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.IdempotencyService;
+import com.skypro.simplebanking.service.LedgerService;
+import java.util.List;
+import javax.validation.Valid;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,9 +16,16 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/account")
 public class AccountController {
   private final AccountService accountService;
+  private final LedgerService ledgerService;
+  private final IdempotencyService idempotencyService;
 
-  public AccountController(AccountService accountService) {
+  public AccountController(
+      AccountService accountService,
+      LedgerService ledgerService,
+      IdempotencyService idempotencyService) {
     this.accountService = accountService;
+    this.ledgerService = ledgerService;
+    this.idempotencyService = idempotencyService;
   }
 
   @GetMapping("/{id}")
@@ -25,16 +37,37 @@ public class AccountController {
   @PostMapping("/deposit/{id}")
   public AccountDTO depositToAccount(Authentication authentication,
                                      @PathVariable("id") Long accountId,
-                                     @RequestBody BalanceChangeRequest balanceChangeRequest){
+                                     @Valid @RequestBody BalanceChangeRequest balanceChangeRequest,
+                                     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey){
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
-    return accountService.depositToAccount(bankingUserDetails.getId(),accountId, balanceChangeRequest.getAmount());
+    return idempotencyService.execute(
+        bankingUserDetails.getId(),
+        idempotencyKey,
+        "deposit:" + accountId + ":" + balanceChangeRequest.getAmount(),
+        AccountDTO.class,
+        () -> accountService.depositToAccount(bankingUserDetails.getId(), accountId, balanceChangeRequest.getAmount()));
   }
 
   @PostMapping("/withdraw/{id}")
   public AccountDTO withdrawFromAccount(Authentication authentication,
                                      @PathVariable("id") Long accountId,
-                                     @RequestBody BalanceChangeRequest balanceChangeRequest){
+                                     @Valid @RequestBody BalanceChangeRequest balanceChangeRequest,
+                                     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey){
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
-    return accountService.withdrawFromAccount(bankingUserDetails.getId(),accountId, balanceChangeRequest.getAmount());
+    return idempotencyService.execute(
+        bankingUserDetails.getId(),
+        idempotencyKey,
+        "withdraw:" + accountId + ":" + balanceChangeRequest.getAmount(),
+        AccountDTO.class,
+        () -> accountService.withdrawFromAccount(bankingUserDetails.getId(), accountId, balanceChangeRequest.getAmount()));
+  }
+
+  @GetMapping("/{id}/history")
+  public List<LedgerEntryDTO> getAccountHistory(Authentication authentication,
+                                                @PathVariable("id") Long accountId,
+                                                @RequestParam(value = "before", defaultValue = "" + Long.MAX_VALUE) long before,
+                                                @RequestParam(value = "limit", defaultValue = "50") int limit){
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return ledgerService.getHistory(bankingUserDetails.getId(), accountId, before, limit);
   }
 }
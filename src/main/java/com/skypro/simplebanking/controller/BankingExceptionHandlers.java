@@ -1,7 +1,11 @@
 package com.skypro.simplebanking.controller;
 
 import com.skypro.simplebanking.exception.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -12,11 +16,28 @@ public class BankingExceptionHandlers {
     return ResponseEntity.notFound().build();
   }
 
+  @ExceptionHandler(value = {QueuedTransferNotFoundException.class})
+  public ResponseEntity<?> handleQueuedTransferNotFound() {
+    return ResponseEntity.notFound().build();
+  }
+
+  @ExceptionHandler(value = {TransferQueueFullException.class})
+  public ResponseEntity<?> handleTransferQueueFull() {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body("Transfer queue is full, retry later");
+  }
+
   @ExceptionHandler(value = {InsufficientFundsException.class})
   public ResponseEntity<?> handleInsufficientFunds(InsufficientFundsException exception) {
     return ResponseEntity.badRequest().body(exception.getMessage());
   }
 
+  @ExceptionHandler(value = {BatchTransferRejectedException.class})
+  public ResponseEntity<?> handleBatchTransferRejected(BatchTransferRejectedException exception) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getResults());
+  }
+
   @ExceptionHandler(value = {UserAlreadyExistsException.class})
   public ResponseEntity<?> handleUserAlreadyExists() {
     return ResponseEntity.badRequest().build();
@@ -31,4 +52,35 @@ public class BankingExceptionHandlers {
   public ResponseEntity<?> handleWrongCurrency() {
     return ResponseEntity.badRequest().body("Account currencies should be same");
   }
+
+  @ExceptionHandler(value = {FxRateUnavailableException.class})
+  public ResponseEntity<?> handleFxRateUnavailable(FxRateUnavailableException exception) {
+    return ResponseEntity.badRequest().body(exception.getMessage());
+  }
+
+  @ExceptionHandler(value = {InvalidIdempotencyKeyException.class})
+  public ResponseEntity<?> handleInvalidIdempotencyKey() {
+    return ResponseEntity.badRequest().body("Idempotency-Key should be 1 to 255 characters");
+  }
+
+  @ExceptionHandler(value = {IdempotencyKeyReusedException.class})
+  public ResponseEntity<?> handleIdempotencyKeyReused() {
+    return ResponseEntity.unprocessableEntity()
+        .body("Idempotency-Key was already used for a different request");
+  }
+
+  @ExceptionHandler(value = {InvalidImportFileException.class})
+  public ResponseEntity<?> handleInvalidImportFile(InvalidImportFileException exception) {
+    return ResponseEntity.badRequest().body(exception.getMessage());
+  }
+
+  @ExceptionHandler(value = {MethodArgumentNotValidException.class})
+  public ResponseEntity<?> handleInvalidRequest(MethodArgumentNotValidException exception) {
+    return ResponseEntity.badRequest()
+        .body(
+            exception.getBindingResult().getAllErrors().stream()
+                .map(ObjectError::getDefaultMessage)
+                .findFirst()
+                .orElse("Invalid request"));
+  }
 }
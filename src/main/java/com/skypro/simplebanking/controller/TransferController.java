@@ -1,11 +1,22 @@
 package com.skypro.simplebanking.controller;
 
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.BatchTransferRequest;
+import com.skypro.simplebanking.dto.QueuedTransferDTO;
 import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.TransferResultDTO;
+import com.skypro.simplebanking.service.IdempotencyService;
+import com.skypro.simplebanking.service.TransferQueueService;
 import com.skypro.simplebanking.service.TransferService;
+import java.util.List;
+import javax.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,15 +24,80 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/transfer")
 public class TransferController {
   private final TransferService transferService;
+  private final IdempotencyService idempotencyService;
+  private final TransferQueueService transferQueueService;
 
-  public TransferController(TransferService transferService) {
+  public TransferController(
+      TransferService transferService,
+      IdempotencyService idempotencyService,
+      TransferQueueService transferQueueService) {
     this.transferService = transferService;
+    this.idempotencyService = idempotencyService;
+    this.transferQueueService = transferQueueService;
   }
 
   @PostMapping
   public void transfer(
-      Authentication authentication, @RequestBody TransferRequest transferRequest) {
+      Authentication authentication,
+      @Valid @RequestBody TransferRequest transferRequest,
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
-    transferService.transfer(bankingUserDetails.getId(), transferRequest);
+    idempotencyService.execute(
+        bankingUserDetails.getId(),
+        idempotencyKey,
+        "transfer:"
+            + transferRequest.getFromAccountId()
+            + ":"
+            + transferRequest.getToUserId()
+            + ":"
+            + transferRequest.getToAccountId()
+            + ":"
+            + transferRequest.getAmount()
+            + ":"
+            + transferRequest.isAllowConversion(),
+        Void.class,
+        () -> {
+          transferService.transfer(bankingUserDetails.getId(), transferRequest);
+          return null;
+        });
+  }
+
+  @PostMapping("/async")
+  public ResponseEntity<QueuedTransferDTO> submitTransfer(
+      Authentication authentication,
+      @Valid @RequestBody TransferRequest transferRequest,
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    transferQueueService.checkCapacity();
+    return ResponseEntity.accepted()
+        .body(
+            idempotencyService.execute(
+                bankingUserDetails.getId(),
+                idempotencyKey,
+                "transfer-async:"
+                    + transferRequest.getFromAccountId()
+                    + ":"
+                    + transferRequest.getToUserId()
+                    + ":"
+                    + transferRequest.getToAccountId()
+                    + ":"
+                    + transferRequest.getAmount()
+                    + ":"
+                    + transferRequest.isAllowConversion(),
+                QueuedTransferDTO.class,
+                () -> transferQueueService.submit(bankingUserDetails.getId(), transferRequest)));
+  }
+
+  @GetMapping("/async/{id}")
+  public QueuedTransferDTO getQueuedTransfer(Authentication authentication, @PathVariable long id) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return transferQueueService.getTransfer(bankingUserDetails.getId(), id);
+  }
+
+  @PostMapping("/batch")
+  public List<TransferResultDTO> transferBatch(
+      Authentication authentication, @Valid @RequestBody BatchTransferRequest batchTransferRequest) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return transferService.transferBatch(bankingUserDetails.getId(), batchTransferRequest);
   }
 }
@@ -1,37 +1,92 @@
 package com.skypro.simplebanking.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.configuration.BearerTokenService;
 import com.skypro.simplebanking.dto.BankingUserDetails;
 import com.skypro.simplebanking.dto.CreateUserRequest;
 import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.dto.TokenDTO;
 import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.dto.UserImportDTO;
 import javax.validation.Valid;
 
+import com.skypro.simplebanking.service.UserImportReader;
+import com.skypro.simplebanking.service.UserImportService;
 import com.skypro.simplebanking.service.UserService;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/user")
 public class UserController {
   private final UserService userService;
+  private final UserImportService userImportService;
+  private final BearerTokenService bearerTokenService;
+  private final ObjectMapper objectMapper;
 
-  public UserController(UserService userService) {
+  public UserController(UserService userService,
+                        UserImportService userImportService,
+                        BearerTokenService bearerTokenService,
+                        ObjectMapper objectMapper) {
     this.userService = userService;
+    this.userImportService = userImportService;
+    this.bearerTokenService = bearerTokenService;
+    this.objectMapper = objectMapper;
   }
 
   @PostMapping
   public UserDTO createUser(@RequestBody @Valid CreateUserRequest userRequest) {
     return userService.createUser(userRequest.getUsername(), userRequest.getPassword());
   }
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public UserImportDTO importUsersFromJson(InputStream body) {
+    return userImportService.importUsers(UserImportReader.json(objectMapper, body));
+  }
+  @PostMapping(value = "/import", consumes = "text/csv")
+  public UserImportDTO importUsersFromCsv(InputStream body) {
+    return userImportService.importUsers(UserImportReader.csv(body));
+  }
+  @GetMapping("/import")
+  public List<UserImportDTO> getImports() {
+    return userImportService.listImports();
+  }
   @GetMapping("/list")
-  public List<ListUserDTO> getAllUsers(){
-    return userService.listUsers();
+  public List<ListUserDTO> getAllUsers(@RequestParam(value = "after", defaultValue = "0") long after,
+                                       @RequestParam(value = "limit", defaultValue = "100") int limit){
+    return userService.listUsers(after, limit);
+  }
+  @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+  public StreamingResponseBody streamAllUsers(){
+    return outputStream -> {
+      try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+        generator.writeStartArray();
+        userService.streamUsers(user -> {
+          try {
+            generator.writeObject(user);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+        generator.writeEndArray();
+      }
+    };
   }
   @GetMapping("/me")
   public UserDTO getMyProfile(Authentication authentication){
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
     return userService.getUser(bankingUserDetails.getId());
   }
+  @PostMapping("/token")
+  public TokenDTO issueToken(Authentication authentication){
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return bearerTokenService.issue(bankingUserDetails);
+  }
 }
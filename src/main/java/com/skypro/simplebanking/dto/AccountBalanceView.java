@@ -0,0 +1,11 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+
+public interface AccountBalanceView {
+  long getId();
+
+  long getAmount();
+
+  AccountCurrency getAccountCurrency();
+}
@@ -29,4 +29,8 @@ public class AccountDTO {
   public static AccountDTO from(Account account) {
     return new AccountDTO(account.getId(), account.getAmount(), account.getAccountCurrency());
   }
+
+  public static AccountDTO from(AccountBalanceView account) {
+    return new AccountDTO(account.getId(), account.getAmount(), account.getAccountCurrency());
+  }
 }
@@ -1,8 +1,9 @@
 package com.skypro.simplebanking.dto;
 
-import org.hibernate.validator.constraints.Range;
+import javax.validation.constraints.Positive;
 
 public class BalanceChangeRequest {
+  @Positive(message = "Amount should be more than 0")
   private long amount;
 
   public long getAmount() {
@@ -1,6 +1,5 @@
 package com.skypro.simplebanking.dto;
 
-import com.skypro.simplebanking.entity.User;
 import java.util.Collection;
 import java.util.Collections;
 import org.springframework.security.core.GrantedAuthority;
@@ -63,7 +62,7 @@ public class BankingUserDetails implements UserDetails {
     return id;
   }
 
-  public static BankingUserDetails from(User user) {
-    return new BankingUserDetails(user.getId(), user.getUsername(), user.getPassword(), false);
+  public boolean isAdmin() {
+    return isAdmin;
   }
 }
@@ -0,0 +1,28 @@
+package com.skypro.simplebanking.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+public class BatchTransferRequest {
+  @NotNull private BatchTransferMode mode = BatchTransferMode.ALL_OR_NOTHING;
+  @NotEmpty private List<@Valid @NotNull TransferRequest> transfers = new ArrayList<>();
+
+  public BatchTransferMode getMode() {
+    return mode;
+  }
+
+  public void setMode(BatchTransferMode mode) {
+    this.mode = mode;
+  }
+
+  public List<TransferRequest> getTransfers() {
+    return transfers;
+  }
+
+  public void setTransfers(List<TransferRequest> transfers) {
+    this.transfers = transfers;
+  }
+}
@@ -0,0 +1,57 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.LedgerEntry;
+import java.time.Instant;
+
+public class LedgerEntryDTO {
+  private final long id;
+  private final long accountId;
+  private final long delta;
+  private final long balance;
+  private final Instant createdAt;
+  private final String correlationId;
+
+  public LedgerEntryDTO(
+      long id, long accountId, long delta, long balance, Instant createdAt, String correlationId) {
+    this.id = id;
+    this.accountId = accountId;
+    this.delta = delta;
+    this.balance = balance;
+    this.createdAt = createdAt;
+    this.correlationId = correlationId;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public long getAccountId() {
+    return accountId;
+  }
+
+  public long getDelta() {
+    return delta;
+  }
+
+  public long getBalance() {
+    return balance;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public String getCorrelationId() {
+    return correlationId;
+  }
+
+  public static LedgerEntryDTO from(LedgerEntry entry) {
+    return new LedgerEntryDTO(
+        entry.getId(),
+        entry.getAccountId(),
+        entry.getDelta(),
+        entry.getBalance(),
+        entry.getCreatedAt(),
+        entry.getCorrelationId());
+  }
+}
@@ -1,6 +1,5 @@
 package com.skypro.simplebanking.dto;
 
-import com.skypro.simplebanking.entity.Account;
 import com.skypro.simplebanking.entity.AccountCurrency;
 
 public class ListAccountDTO {
@@ -19,8 +18,4 @@ public class ListAccountDTO {
   public AccountCurrency getCurrency() {
     return currency;
   }
-
-  public static ListAccountDTO from(Account account) {
-    return new ListAccountDTO(account.getId(), account.getAccountCurrency());
-  }
 }
@@ -1,8 +1,9 @@
 package com.skypro.simplebanking.dto;
 
-import com.skypro.simplebanking.entity.User;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 public class ListUserDTO {
   private final long id;
@@ -28,10 +29,22 @@ public class ListUserDTO {
     return accounts;
   }
 
-  public static ListUserDTO from(User user) {
-    return new ListUserDTO(
-        user.getId(),
-        user.getUsername(),
-        user.getAccounts().stream().map(ListAccountDTO::from).collect(Collectors.toList()));
+  public static void group(Iterator<UserAccountRow> rows, Consumer<ListUserDTO> consumer) {
+    UserAccountRow current = null;
+    List<ListAccountDTO> accounts = new ArrayList<>();
+    while (rows.hasNext()) {
+      UserAccountRow row = rows.next();
+      if (current != null && current.getUserId() != row.getUserId()) {
+        consumer.accept(new ListUserDTO(current.getUserId(), current.getUsername(), accounts));
+        accounts = new ArrayList<>();
+      }
+      current = row;
+      if (row.getAccountId() != null) {
+        accounts.add(new ListAccountDTO(row.getAccountId(), row.getCurrency()));
+      }
+    }
+    if (current != null) {
+      consumer.accept(new ListUserDTO(current.getUserId(), current.getUsername(), accounts));
+    }
   }
 }
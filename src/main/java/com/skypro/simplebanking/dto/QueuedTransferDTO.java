@@ -0,0 +1,87 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.QueuedTransfer;
+import com.skypro.simplebanking.entity.QueuedTransferStatus;
+import java.time.Instant;
+
+public class QueuedTransferDTO {
+  private final long id;
+  private final QueuedTransferStatus status;
+  private final long fromAccountId;
+  private final long toUserId;
+  private final long toAccountId;
+  private final long amount;
+  private final String error;
+  private final Instant createdAt;
+  private final Instant completedAt;
+
+  public QueuedTransferDTO(
+      long id,
+      QueuedTransferStatus status,
+      long fromAccountId,
+      long toUserId,
+      long toAccountId,
+      long amount,
+      String error,
+      Instant createdAt,
+      Instant completedAt) {
+    this.id = id;
+    this.status = status;
+    this.fromAccountId = fromAccountId;
+    this.toUserId = toUserId;
+    this.toAccountId = toAccountId;
+    this.amount = amount;
+    this.error = error;
+    this.createdAt = createdAt;
+    this.completedAt = completedAt;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public QueuedTransferStatus getStatus() {
+    return status;
+  }
+
+  public long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public long getToUserId() {
+    return toUserId;
+  }
+
+  public long getToAccountId() {
+    return toAccountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getCompletedAt() {
+    return completedAt;
+  }
+
+  public static QueuedTransferDTO from(QueuedTransfer transfer) {
+    return new QueuedTransferDTO(
+        transfer.getId(),
+        transfer.getStatus(),
+        transfer.getFromAccountId(),
+        transfer.getToUserId(),
+        transfer.getToAccountId(),
+        transfer.getAmount(),
+        transfer.getError(),
+        transfer.getCreatedAt(),
+        transfer.getCompletedAt());
+  }
+}
@@ -0,0 +1,19 @@
+package com.skypro.simplebanking.dto;
+
+public class TokenDTO {
+  private final String token;
+  private final long expiresAt;
+
+  public TokenDTO(String token, long expiresAt) {
+    this.token = token;
+    this.expiresAt = expiresAt;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public long getExpiresAt() {
+    return expiresAt;
+  }
+}
@@ -1,11 +1,24 @@
 package com.skypro.simplebanking.dto;
 
+import com.skypro.simplebanking.validation.DistinctAccounts;
+import javax.validation.constraints.Positive;
+
+@DistinctAccounts
 public class TransferRequest {
+  @Positive(message = "Account id should be positive")
   private long fromAccountId;
+
+  @Positive(message = "User id should be positive")
   private long toUserId;
+
+  @Positive(message = "Account id should be positive")
   private long toAccountId;
+
+  @Positive(message = "Amount should be more than 0")
   private long amount;
 
+  private boolean allowConversion;
+
   public long getToUserId() {
     return toUserId;
   }
@@ -37,4 +50,12 @@ public class TransferRequest {
   public void setToAccountId(long toAccountId) {
     this.toAccountId = toAccountId;
   }
+
+  public boolean isAllowConversion() {
+    return allowConversion;
+  }
+
+  public void setAllowConversion(boolean allowConversion) {
+    this.allowConversion = allowConversion;
+  }
 }
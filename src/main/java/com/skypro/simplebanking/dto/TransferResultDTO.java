@@ -0,0 +1,25 @@
+package com.skypro.simplebanking.dto;
+
+public class TransferResultDTO {
+  private final int index;
+  private final TransferStatus status;
+  private final String error;
+
+  public TransferResultDTO(int index, TransferStatus status, String error) {
+    this.index = index;
+    this.status = status;
+    this.error = error;
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public TransferStatus getStatus() {
+    return status;
+  }
+
+  public String getError() {
+    return error;
+  }
+}
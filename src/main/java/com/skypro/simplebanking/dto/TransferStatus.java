@@ -0,0 +1,7 @@
+package com.skypro.simplebanking.dto;
+
+public enum TransferStatus {
+  APPLIED,
+  REJECTED,
+  ROLLED_BACK
+}
@@ -0,0 +1,72 @@
+package com.skypro.simplebanking.dto;
+
+import java.time.Instant;
+
+public class UserImportDTO {
+  private final String id;
+  private final UserImportState state;
+  private final Instant startedAt;
+  private final Instant finishedAt;
+  private final long processed;
+  private final long created;
+  private final long skipped;
+  private final long failed;
+  private final String error;
+
+  public UserImportDTO(
+      String id,
+      UserImportState state,
+      Instant startedAt,
+      Instant finishedAt,
+      long processed,
+      long created,
+      long skipped,
+      long failed,
+      String error) {
+    this.id = id;
+    this.state = state;
+    this.startedAt = startedAt;
+    this.finishedAt = finishedAt;
+    this.processed = processed;
+    this.created = created;
+    this.skipped = skipped;
+    this.failed = failed;
+    this.error = error;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public UserImportState getState() {
+    return state;
+  }
+
+  public Instant getStartedAt() {
+    return startedAt;
+  }
+
+  public Instant getFinishedAt() {
+    return finishedAt;
+  }
+
+  public long getProcessed() {
+    return processed;
+  }
+
+  public long getCreated() {
+    return created;
+  }
+
+  public long getSkipped() {
+    return skipped;
+  }
+
+  public long getFailed() {
+    return failed;
+  }
+
+  public String getError() {
+    return error;
+  }
+}
@@ -3,17 +3,22 @@ package com.skypro.simplebanking.entity;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "accounts")
+@Table(
+    name = "accounts",
+    indexes = @Index(name = "accounts_user_id_id_idx", columnList = "user_id, id"))
 public class Account {
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account-sequence")
-  @SequenceGenerator(name = "account-sequence", sequenceName = "account_sequence")
+  @SequenceGenerator(
+      name = "account-sequence",
+      sequenceName = "account_sequence",
+      allocationSize = 300)
   private Long id;
 
   private AccountCurrency accountCurrency;
   private Long amount;
 
-  @ManyToOne(optional = false)
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
   @JoinColumn(nullable = false, updatable = false, name = "user_id")
   private User user;
 
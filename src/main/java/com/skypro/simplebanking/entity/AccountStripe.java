@@ -0,0 +1,43 @@
+package com.skypro.simplebanking.entity;
+
+import javax.persistence.*;
+
+@Entity
+@IdClass(AccountStripeId.class)
+@Table(name = "account_stripes")
+public class AccountStripe {
+  @Id
+  @Column(name = "account_id", nullable = false, updatable = false)
+  private Long accountId;
+
+  @Id
+  @Column(nullable = false, updatable = false)
+  private Integer slot;
+
+  @Column(nullable = false)
+  private Long amount;
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public Integer getSlot() {
+    return slot;
+  }
+
+  public void setSlot(Integer slot) {
+    this.slot = slot;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+}
@@ -0,0 +1,33 @@
+package com.skypro.simplebanking.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class AccountStripeId implements Serializable {
+  private Long accountId;
+  private Integer slot;
+
+  public AccountStripeId() {}
+
+  public AccountStripeId(Long accountId, Integer slot) {
+    this.accountId = accountId;
+    this.slot = slot;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AccountStripeId that = (AccountStripeId) o;
+    return Objects.equals(accountId, that.accountId) && Objects.equals(slot, that.slot);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(accountId, slot);
+  }
+}
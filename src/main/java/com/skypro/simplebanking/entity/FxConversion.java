@@ -0,0 +1,128 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(
+    name = "fx_conversions",
+    indexes = {
+      @Index(name = "fx_conversions_from_account_id_idx", columnList = "from_account_id"),
+      @Index(name = "fx_conversions_to_account_id_idx", columnList = "to_account_id")
+    })
+public class FxConversion {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fx-conversion-sequence")
+  @SequenceGenerator(
+      name = "fx-conversion-sequence",
+      sequenceName = "fx_conversion_sequence",
+      allocationSize = 50)
+  private Long id;
+
+  @Column(name = "from_account_id", nullable = false, updatable = false)
+  private Long fromAccountId;
+
+  @Column(name = "to_account_id", nullable = false, updatable = false)
+  private Long toAccountId;
+
+  @Column(nullable = false, updatable = false)
+  private AccountCurrency fromCurrency;
+
+  @Column(nullable = false, updatable = false)
+  private AccountCurrency toCurrency;
+
+  @Column(nullable = false, updatable = false)
+  private Long fromAmount;
+
+  @Column(nullable = false, updatable = false)
+  private Long toAmount;
+
+  @Column(nullable = false, updatable = false)
+  private Long rate;
+
+  @Column(nullable = false, updatable = false)
+  private Instant rateLoadedAt;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public void setFromAccountId(Long fromAccountId) {
+    this.fromAccountId = fromAccountId;
+  }
+
+  public Long getToAccountId() {
+    return toAccountId;
+  }
+
+  public void setToAccountId(Long toAccountId) {
+    this.toAccountId = toAccountId;
+  }
+
+  public AccountCurrency getFromCurrency() {
+    return fromCurrency;
+  }
+
+  public void setFromCurrency(AccountCurrency fromCurrency) {
+    this.fromCurrency = fromCurrency;
+  }
+
+  public AccountCurrency getToCurrency() {
+    return toCurrency;
+  }
+
+  public void setToCurrency(AccountCurrency toCurrency) {
+    this.toCurrency = toCurrency;
+  }
+
+  public Long getFromAmount() {
+    return fromAmount;
+  }
+
+  public void setFromAmount(Long fromAmount) {
+    this.fromAmount = fromAmount;
+  }
+
+  public Long getToAmount() {
+    return toAmount;
+  }
+
+  public void setToAmount(Long toAmount) {
+    this.toAmount = toAmount;
+  }
+
+  public Long getRate() {
+    return rate;
+  }
+
+  public void setRate(Long rate) {
+    this.rate = rate;
+  }
+
+  public Instant getRateLoadedAt() {
+    return rateLoadedAt;
+  }
+
+  public void setRateLoadedAt(Instant rateLoadedAt) {
+    this.rateLoadedAt = rateLoadedAt;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+}
@@ -0,0 +1,68 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@IdClass(IdempotencyRecordId.class)
+@Table(
+    name = "idempotency_keys",
+    indexes = @Index(name = "idempotency_keys_created_at_idx", columnList = "created_at"))
+public class IdempotencyRecord {
+  @Id
+  @Column(name = "user_id", nullable = false, updatable = false)
+  private Long userId;
+
+  @Id
+  @Column(name = "idempotency_key", nullable = false, updatable = false)
+  private String idempotencyKey;
+
+  @Column(nullable = false, updatable = false)
+  private String fingerprint;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(columnDefinition = "text")
+  private String response;
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+
+  public void setIdempotencyKey(String idempotencyKey) {
+    this.idempotencyKey = idempotencyKey;
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public void setFingerprint(String fingerprint) {
+    this.fingerprint = fingerprint;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public String getResponse() {
+    return response;
+  }
+
+  public void setResponse(String response) {
+    this.response = response;
+  }
+}
@@ -0,0 +1,34 @@
+package com.skypro.simplebanking.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class IdempotencyRecordId implements Serializable {
+  private Long userId;
+  private String idempotencyKey;
+
+  public IdempotencyRecordId() {}
+
+  public IdempotencyRecordId(Long userId, String idempotencyKey) {
+    this.userId = userId;
+    this.idempotencyKey = idempotencyKey;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    IdempotencyRecordId that = (IdempotencyRecordId) o;
+    return Objects.equals(userId, that.userId)
+        && Objects.equals(idempotencyKey, that.idempotencyKey);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(userId, idempotencyKey);
+  }
+}
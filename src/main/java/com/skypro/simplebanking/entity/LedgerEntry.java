@@ -0,0 +1,78 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(
+    name = "ledger_entries",
+    indexes = @Index(name = "ledger_entries_account_id_id_idx", columnList = "account_id, id"))
+public class LedgerEntry {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger-sequence")
+  @SequenceGenerator(name = "ledger-sequence", sequenceName = "ledger_sequence", allocationSize = 50)
+  private Long id;
+
+  @Column(name = "account_id", nullable = false, updatable = false)
+  private Long accountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long delta;
+
+  @Column(nullable = false, updatable = false)
+  private Long balance;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(nullable = false, updatable = false)
+  private String correlationId;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public Long getDelta() {
+    return delta;
+  }
+
+  public void setDelta(Long delta) {
+    this.delta = delta;
+  }
+
+  public Long getBalance() {
+    return balance;
+  }
+
+  public void setBalance(Long balance) {
+    this.balance = balance;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public String getCorrelationId() {
+    return correlationId;
+  }
+
+  public void setCorrelationId(String correlationId) {
+    this.correlationId = correlationId;
+  }
+}
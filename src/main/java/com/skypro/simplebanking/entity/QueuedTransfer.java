@@ -0,0 +1,155 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(
+    name = "transfer_queue",
+    indexes = @Index(name = "transfer_queue_user_id_id_idx", columnList = "user_id, id"))
+public class QueuedTransfer {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer-queue-sequence")
+  @SequenceGenerator(
+      name = "transfer-queue-sequence",
+      sequenceName = "transfer_queue_sequence",
+      allocationSize = 50)
+  private Long id;
+
+  @Column(name = "user_id", nullable = false, updatable = false)
+  private Long userId;
+
+  @Column(nullable = false, updatable = false)
+  private Long fromAccountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long toUserId;
+
+  @Column(nullable = false, updatable = false)
+  private Long toAccountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long amount;
+
+  @Column(nullable = false, updatable = false)
+  private boolean allowConversion;
+
+  @Column(nullable = false)
+  private QueuedTransferStatus status;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  private String error;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  private Instant claimedAt;
+
+  private Instant completedAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public Long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public void setFromAccountId(Long fromAccountId) {
+    this.fromAccountId = fromAccountId;
+  }
+
+  public Long getToUserId() {
+    return toUserId;
+  }
+
+  public void setToUserId(Long toUserId) {
+    this.toUserId = toUserId;
+  }
+
+  public Long getToAccountId() {
+    return toAccountId;
+  }
+
+  public void setToAccountId(Long toAccountId) {
+    this.toAccountId = toAccountId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public boolean isAllowConversion() {
+    return allowConversion;
+  }
+
+  public void setAllowConversion(boolean allowConversion) {
+    this.allowConversion = allowConversion;
+  }
+
+  public QueuedTransferStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(QueuedTransferStatus status) {
+    this.status = status;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public void setAttempts(int attempts) {
+    this.attempts = attempts;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public Instant getClaimedAt() {
+    return claimedAt;
+  }
+
+  public void setClaimedAt(Instant claimedAt) {
+    this.claimedAt = claimedAt;
+  }
+
+  public Instant getCompletedAt() {
+    return completedAt;
+  }
+
+  public void setCompletedAt(Instant completedAt) {
+    this.completedAt = completedAt;
+  }
+}
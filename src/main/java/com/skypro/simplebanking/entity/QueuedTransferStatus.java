@@ -0,0 +1,8 @@
+package com.skypro.simplebanking.entity;
+
+public enum QueuedTransferStatus {
+  PENDING,
+  PROCESSING,
+  COMPLETED,
+  FAILED
+}
@@ -10,8 +10,9 @@ import java.util.Set;
 public class User {
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user-generator")
-  @SequenceGenerator(name = "user-generator", sequenceName = "user_sequence")
+  @SequenceGenerator(name = "user-generator", sequenceName = "user_sequence", allocationSize = 100)
   private Long id;
+  @Column(unique = true)
   private String username;
   private String password;
   @OneToMany(cascade = CascadeType.ALL, mappedBy = "user")
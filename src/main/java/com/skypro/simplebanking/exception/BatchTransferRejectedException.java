@@ -0,0 +1,17 @@
+package com.skypro.simplebanking.exception;
+
+import com.skypro.simplebanking.dto.TransferResultDTO;
+import java.util.List;
+
+public class BatchTransferRejectedException extends RuntimeException {
+  private final List<TransferResultDTO> results;
+
+  public BatchTransferRejectedException(List<TransferResultDTO> results) {
+    super("Batch transfer was rolled back");
+    this.results = results;
+  }
+
+  public List<TransferResultDTO> getResults() {
+    return results;
+  }
+}
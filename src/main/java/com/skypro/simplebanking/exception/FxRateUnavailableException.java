@@ -0,0 +1,7 @@
+package com.skypro.simplebanking.exception;
+
+public class FxRateUnavailableException extends RuntimeException {
+  public FxRateUnavailableException(String message) {
+    super(message);
+  }
+}
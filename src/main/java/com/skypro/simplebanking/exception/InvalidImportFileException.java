@@ -0,0 +1,7 @@
+package com.skypro.simplebanking.exception;
+
+public class InvalidImportFileException extends RuntimeException {
+  public InvalidImportFileException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,3 @@
+package com.skypro.simplebanking.exception;
+
+public class TransferQueueFullException extends RuntimeException {}
@@ -0,0 +1,117 @@
+package com.skypro.simplebanking.metrics;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.exception.AccountNotFoundException;
+import com.skypro.simplebanking.exception.BatchTransferRejectedException;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.exception.WrongCurrencyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BankingMetrics {
+  private static final String UNKNOWN_CURRENCY = "unknown";
+
+  private final MeterRegistry meterRegistry;
+
+  public BankingMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> T recordOperation(
+      String operation, Supplier<T> action, Function<T, AccountCurrency> currencyOf) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String currency = UNKNOWN_CURRENCY;
+    String outcome = "success";
+    try {
+      T result = action.get();
+      AccountCurrency accountCurrency = currencyOf.apply(result);
+      if (accountCurrency != null) {
+        currency = accountCurrency.name();
+      }
+      return result;
+    } catch (RuntimeException e) {
+      outcome = outcomeOf(e);
+      throw e;
+    } finally {
+      sample.stop(
+          meterRegistry.timer(
+              "banking.operation", "operation", operation, "currency", currency, "outcome", outcome));
+    }
+  }
+
+  public <T> T recordAuthPhase(String phase, Supplier<T> action) {
+    return meterRegistry.timer("banking.auth.phase", "phase", phase).record(action);
+  }
+
+  public Timer.Sample startAuthentication() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopAuthentication(Timer.Sample sample, String result) {
+    sample.stop(meterRegistry.timer("banking.auth", "result", result));
+  }
+
+  public void countAdminAuthentication(String outcome) {
+    meterRegistry.counter("banking.auth.admin", "outcome", outcome).increment();
+  }
+
+  public <T> T recordIdempotencyLookup(String source, Supplier<T> lookup) {
+    return meterRegistry.timer("banking.idempotency.lookup", "source", source).record(lookup);
+  }
+
+  public void countIdempotentRequest(String result) {
+    meterRegistry.counter("banking.idempotency.requests", "result", result).increment();
+  }
+
+  public void countRateLimited(String reason, String endpoint) {
+    meterRegistry
+        .counter("banking.rate_limit.rejected", "reason", reason, "endpoint", endpoint)
+        .increment();
+  }
+
+  public void countImportedUsers(String result, long count) {
+    meterRegistry.counter("banking.user_import.users", "result", result).increment(count);
+  }
+
+  public void countFxRateReload(String outcome) {
+    meterRegistry.counter("banking.fx.reloads", "outcome", outcome).increment();
+  }
+
+  public void recordQueuedTransfer(String outcome, Duration queued) {
+    meterRegistry.timer("banking.transfer_queue.latency", "outcome", outcome).record(queued);
+  }
+
+  public void gaugeTransferQueueDepth(String status, Supplier<Number> depth) {
+    Gauge.builder("banking.transfer_queue.depth", depth).tag("status", status).register(meterRegistry);
+  }
+
+  public void countCacheInvalidations(String direction, long count) {
+    meterRegistry.counter("banking.cache.invalidations", "direction", direction).increment(count);
+  }
+
+  private static String outcomeOf(RuntimeException e) {
+    if (e instanceof InsufficientFundsException) {
+      return "insufficient_funds";
+    }
+    if (e instanceof WrongCurrencyException) {
+      return "wrong_currency";
+    }
+    if (e instanceof AccountNotFoundException) {
+      return "account_not_found";
+    }
+    if (e instanceof InvalidAmountException) {
+      return "invalid_amount";
+    }
+    if (e instanceof BatchTransferRejectedException) {
+      return "batch_rejected";
+    }
+    return "error";
+  }
+}
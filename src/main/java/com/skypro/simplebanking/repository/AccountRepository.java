@@ -1,11 +1,70 @@
 package com.skypro.simplebanking.repository;
 
+import com.skypro.simplebanking.dto.AccountBalanceView;
+import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.entity.Account;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
-  Optional<Account> getAccountByUser_IdAndId(Long userId, Long accountId);
+  @Transactional(readOnly = true)
+  @Query(
+      "select new com.skypro.simplebanking.dto.AccountDTO(a.id, a.amount, a.accountCurrency)"
+          + " from Account a where a.user.id = :userId and a.id = :accountId")
+  Optional<AccountDTO> findAccount(
+      @Param("userId") long userId, @Param("accountId") long accountId);
+
+  boolean existsByUser_IdAndId(Long userId, Long accountId);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.id in :ids order by a.id")
+  List<Account> findAllByIdInForUpdate(@Param("ids") Collection<Long> accountIds);
+
+  @Transactional
+  @Query(
+      value =
+          "WITH updated AS (UPDATE accounts SET amount = amount + :amount"
+              + " WHERE id = :accountId AND user_id = :userId"
+              + " RETURNING id, amount, account_currency),"
+              + " recorded AS (INSERT INTO ledger_entries"
+              + " (id, account_id, delta, balance, created_at, correlation_id)"
+              + " SELECT nextval('ledger_sequence'), id, :amount, amount,"
+              + " :createdAt, :correlationId FROM updated)"
+              + " SELECT id, amount, account_currency AS \"accountCurrency\" FROM updated",
+      nativeQuery = true)
+  Optional<AccountBalanceView> depositToAccount(
+      @Param("userId") long userId,
+      @Param("accountId") long accountId,
+      @Param("amount") long amount,
+      @Param("correlationId") String correlationId,
+      @Param("createdAt") Instant createdAt);
+
+  @Transactional
+  @Query(
+      value =
+          "WITH updated AS (UPDATE accounts SET amount = amount - :amount"
+              + " WHERE id = :accountId AND user_id = :userId AND amount >= :amount"
+              + " RETURNING id, amount, account_currency),"
+              + " recorded AS (INSERT INTO ledger_entries"
+              + " (id, account_id, delta, balance, created_at, correlation_id)"
+              + " SELECT nextval('ledger_sequence'), id, -:amount, amount,"
+              + " :createdAt, :correlationId FROM updated)"
+              + " SELECT id, amount, account_currency AS \"accountCurrency\" FROM updated",
+      nativeQuery = true)
+  Optional<AccountBalanceView> withdrawFromAccount(
+      @Param("userId") long userId,
+      @Param("accountId") long accountId,
+      @Param("amount") long amount,
+      @Param("correlationId") String correlationId,
+      @Param("createdAt") Instant createdAt);
 }
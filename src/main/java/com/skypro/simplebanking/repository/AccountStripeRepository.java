@@ -0,0 +1,73 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.dto.AccountBalanceView;
+import com.skypro.simplebanking.entity.AccountStripe;
+import com.skypro.simplebanking.entity.AccountStripeId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface AccountStripeRepository extends JpaRepository<AccountStripe, AccountStripeId> {
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO account_stripes (account_id, slot, amount)"
+              + " SELECT a.id, :slot, :amount FROM accounts a"
+              + " WHERE a.id = :accountId AND a.user_id = :userId"
+              + " ON CONFLICT (account_id, slot)"
+              + " DO UPDATE SET amount = account_stripes.amount + EXCLUDED.amount",
+      nativeQuery = true)
+  int addToStripe(
+      @Param("userId") long userId,
+      @Param("accountId") long accountId,
+      @Param("slot") int slot,
+      @Param("amount") long amount);
+
+  @Query(
+      value = "SELECT id FROM accounts WHERE id IN :ids ORDER BY id FOR UPDATE",
+      nativeQuery = true)
+  List<Long> lockAccountRows(@Param("ids") Collection<Long> accountIds);
+
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "WITH locked AS ("
+              + " SELECT slot, amount FROM account_stripes"
+              + " WHERE account_id = :accountId AND amount <> 0 FOR UPDATE),"
+              + " drained AS ("
+              + " UPDATE account_stripes s SET amount = s.amount - l.amount FROM locked l"
+              + " WHERE s.account_id = :accountId AND s.slot = l.slot RETURNING l.amount)"
+              + " UPDATE accounts SET amount = amount"
+              + " + (SELECT COALESCE(SUM(amount), 0) FROM drained)"
+              + " WHERE id = :accountId",
+      nativeQuery = true)
+  int foldStripes(@Param("accountId") long accountId);
+
+  @Query(
+      value =
+          "SELECT CAST(COALESCE(SUM(amount), 0) AS bigint) FROM account_stripes"
+              + " WHERE account_id = :accountId",
+      nativeQuery = true)
+  long sumStripes(@Param("accountId") long accountId);
+
+  @Query(
+      value =
+          "SELECT a.id,"
+              + " a.amount + CAST(COALESCE(SUM(s.amount), 0) AS bigint) AS amount,"
+              + " a.account_currency AS \"accountCurrency\""
+              + " FROM accounts a LEFT JOIN account_stripes s ON s.account_id = a.id"
+              + " WHERE a.id = :accountId AND a.user_id = :userId"
+              + " GROUP BY a.id",
+      nativeQuery = true)
+  Optional<AccountBalanceView> findBalance(
+      @Param("userId") long userId, @Param("accountId") long accountId);
+}
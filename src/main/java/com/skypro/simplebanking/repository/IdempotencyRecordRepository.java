@@ -0,0 +1,45 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.IdempotencyRecord;
+import com.skypro.simplebanking.entity.IdempotencyRecordId;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyRecordRepository
+    extends JpaRepository<IdempotencyRecord, IdempotencyRecordId> {
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO idempotency_keys (user_id, idempotency_key, fingerprint, created_at)"
+              + " VALUES (:userId, :key, :fingerprint, :createdAt)"
+              + " ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int claim(
+      @Param("userId") long userId,
+      @Param("key") String key,
+      @Param("fingerprint") String fingerprint,
+      @Param("createdAt") Instant createdAt);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "update IdempotencyRecord r set r.response = :response"
+          + " where r.userId = :userId and r.idempotencyKey = :key")
+  int complete(
+      @Param("userId") long userId, @Param("key") String key, @Param("response") String response);
+
+  Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(long userId, String idempotencyKey);
+
+  @Transactional
+  @Modifying
+  @Query("delete from IdempotencyRecord r where r.createdAt < :cutoff")
+  int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
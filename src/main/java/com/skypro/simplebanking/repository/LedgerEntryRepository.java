@@ -0,0 +1,18 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.LedgerEntry;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+  @Query(
+      "select e from LedgerEntry e where e.accountId = :accountId and e.id < :before"
+          + " order by e.id desc")
+  List<LedgerEntry> findPageBefore(
+      @Param("accountId") Long accountId, @Param("before") Long before, Pageable pageable);
+}
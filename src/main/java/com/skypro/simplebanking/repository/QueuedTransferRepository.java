@@ -0,0 +1,42 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.QueuedTransfer;
+import com.skypro.simplebanking.entity.QueuedTransferStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QueuedTransferRepository extends JpaRepository<QueuedTransfer, Long> {
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+  @Query("select t from QueuedTransfer t where t.status = :status order by t.id")
+  List<QueuedTransfer> findByStatusSkipLocked(
+      @Param("status") QueuedTransferStatus status, Pageable pageable);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<QueuedTransfer> findWithLockById(Long id);
+
+  Optional<QueuedTransfer> findByIdAndUserId(Long id, Long userId);
+
+  long countByStatus(QueuedTransferStatus status);
+
+  @Modifying
+  @Query(
+      "update QueuedTransfer t set t.status = :pending, t.claimedAt = null"
+          + " where t.status = :processing and t.claimedAt < :before")
+  int releaseClaimsBefore(
+      @Param("pending") QueuedTransferStatus pending,
+      @Param("processing") QueuedTransferStatus processing,
+      @Param("before") Instant before);
+}
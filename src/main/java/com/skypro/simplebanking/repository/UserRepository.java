@@ -1,11 +1,50 @@
 package com.skypro.simplebanking.repository;
 
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.UserAccountRow;
 import com.skypro.simplebanking.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-  Optional<User> findByUsername(String username);
+  @Query(
+      "select new com.skypro.simplebanking.dto.BankingUserDetails("
+          + "u.id, u.username, u.password, false)"
+          + " from User u where u.username = :username")
+  Optional<BankingUserDetails> findUserDetailsByUsername(@Param("username") String username);
+
+  @Query("select u.username from User u where u.username in :usernames")
+  List<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
+
+  @Query(
+      "select new com.skypro.simplebanking.dto.UserAccountRow("
+          + "u.id, u.username, a.id, a.amount, a.accountCurrency)"
+          + " from User u left join u.accounts a where u.id = :id order by a.id")
+  List<UserAccountRow> findAccountRowsById(@Param("id") long id);
+
+  @Query("select u.id from User u where u.id > :after order by u.id")
+  List<Long> findIdPageAfter(@Param("after") long after, Pageable pageable);
+
+  @Query(
+      "select new com.skypro.simplebanking.dto.UserAccountRow("
+          + "u.id, u.username, a.id, a.accountCurrency)"
+          + " from User u left join u.accounts a where u.id in :ids order by u.id, a.id")
+  List<UserAccountRow> findAccountRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+  @Query(
+      "select new com.skypro.simplebanking.dto.UserAccountRow("
+          + "u.id, u.username, a.id, a.accountCurrency)"
+          + " from User u left join u.accounts a order by u.id, a.id")
+  Stream<UserAccountRow> streamUserAccountRows();
 }
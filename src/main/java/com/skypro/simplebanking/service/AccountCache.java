@@ -0,0 +1,98 @@
+package com.skypro.simplebanking.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skypro.simplebanking.dto.AccountDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-account balance cache shared by all request threads.
+ *
+ * <p>A miss installs an incomplete future, and the caller that installed it runs the loader on its
+ * own thread. Concurrent callers for the same key join that future instead of loading again. No
+ * map lock is held while a loader runs, so a loader waiting for a database connection cannot
+ * block other keys or evictions.
+ *
+ * <p>{@link #evict} removes the future without waiting for an in-flight load. Callers already
+ * joined to that future may still receive the value it was loading, but the future is no longer
+ * mapped, so the next {@link #get} starts a fresh load. Evictions run after commit, so that load
+ * reads the committed balance.
+ */
+@Component
+public class AccountCache implements MeterBinder {
+  private final AsyncCache<AccountKey, AccountDTO> accounts;
+
+  public AccountCache(@Value("${app.cache.accounts.max-size}") long maxSize) {
+    this.accounts = Caffeine.newBuilder().maximumSize(maxSize).recordStats().buildAsync();
+  }
+
+  public AccountDTO get(long userId, long accountId, Supplier<AccountDTO> loader) {
+    CompletableFuture<AccountDTO> created = new CompletableFuture<>();
+    CompletableFuture<AccountDTO> account =
+        accounts.get(new AccountKey(userId, accountId), (key, executor) -> created);
+    if (account == created) {
+      try {
+        created.complete(loader.get());
+      } catch (RuntimeException e) {
+        created.completeExceptionally(e);
+        throw e;
+      }
+    }
+    try {
+      return account.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  public void evict(long userId, long accountId) {
+    accounts.synchronous().invalidate(new AccountKey(userId, accountId));
+  }
+
+  public void evictAll() {
+    accounts.synchronous().invalidateAll();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, accounts, "accounts");
+  }
+
+  private static class AccountKey {
+    private final long userId;
+    private final long accountId;
+
+    private AccountKey(long userId, long accountId) {
+      this.userId = userId;
+      this.accountId = accountId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      AccountKey that = (AccountKey) o;
+      return userId == that.userId && accountId == that.accountId;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, accountId);
+    }
+  }
+}
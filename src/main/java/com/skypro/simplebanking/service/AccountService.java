@@ -1,5 +1,7 @@
 package com.skypro.simplebanking.service;
 
+import com.skypro.simplebanking.configuration.ReplicaStalenessPolicy;
+import com.skypro.simplebanking.dto.AccountBalanceView;
 import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.entity.Account;
 import com.skypro.simplebanking.entity.AccountCurrency;
@@ -7,19 +9,47 @@ import com.skypro.simplebanking.entity.User;
 import com.skypro.simplebanking.exception.AccountNotFoundException;
 import com.skypro.simplebanking.exception.InsufficientFundsException;
 import com.skypro.simplebanking.exception.InvalidAmountException;
-import com.skypro.simplebanking.exception.WrongCurrencyException;
+import com.skypro.simplebanking.metrics.BankingMetrics;
 import com.skypro.simplebanking.repository.AccountRepository;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AccountService {
+  private static final long OPENING_BALANCE = 1L;
+
   private final AccountRepository accountRepository;
+  private final LedgerService ledgerService;
+  private final BankingMetrics bankingMetrics;
+  private final AccountCache accountCache;
+  private final AccountStripeService accountStripeService;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final ReplicaStalenessPolicy stalenessPolicy;
 
-  public AccountService(AccountRepository accountRepository) {
+  public AccountService(
+      AccountRepository accountRepository,
+      LedgerService ledgerService,
+      BankingMetrics bankingMetrics,
+      AccountCache accountCache,
+      AccountStripeService accountStripeService,
+      CacheInvalidationBus cacheInvalidationBus,
+      ReplicaStalenessPolicy stalenessPolicy) {
     this.accountRepository = accountRepository;
+    this.ledgerService = ledgerService;
+    this.bankingMetrics = bankingMetrics;
+    this.accountCache = accountCache;
+    this.accountStripeService = accountStripeService;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.stalenessPolicy = stalenessPolicy;
   }
 
   @Transactional(propagation = Propagation.MANDATORY)
@@ -29,58 +59,110 @@ public class AccountService {
       Account account = new Account();
       account.setUser(user);
       account.setAccountCurrency(currency);
-      account.setAmount(1L);
+      account.setAmount(OPENING_BALANCE);
       user.getAccounts().add(account);
-      accountRepository.save(account);
+    }
+    accountRepository.saveAll(user.getAccounts());
+    for (Account account : user.getAccounts()) {
+      ledgerService.record(account.getId(), OPENING_BALANCE, OPENING_BALANCE);
     }
   }
 
-  @Transactional(readOnly = true)
   public AccountDTO getAccount(long userId, Long accountId) {
-    return accountRepository
-        .getAccountByUser_IdAndId(userId, accountId)
-        .map(AccountDTO::from)
-        .orElseThrow(AccountNotFoundException::new);
+    return accountCache.get(
+        userId,
+        accountId,
+        () -> stalenessPolicy.readFromPrimary(() -> loadAccount(userId, accountId)));
   }
 
-  @Transactional
-  public void validateCurrency(long sourceAccount, long destinationAccount) {
-    Account acc1 =
-        accountRepository.findById(sourceAccount).orElseThrow(AccountNotFoundException::new);
-    Account acc2 =
-        accountRepository.findById(destinationAccount).orElseThrow(AccountNotFoundException::new);
-    if (!acc1.getAccountCurrency().equals(acc2.getAccountCurrency())){
-      throw new WrongCurrencyException();
+  public AccountDTO toAccountDTO(long accountId, long amount, AccountCurrency currency) {
+    return new AccountDTO(
+        accountId, amount + accountStripeService.pendingAmount(accountId), currency);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<Account> lockAccounts(Collection<Long> accountIds) {
+    accountStripeService.fold(accountIds);
+    List<Account> accounts = accountRepository.findAllByIdInForUpdate(accountIds);
+    if (accounts.size() != new HashSet<>(accountIds).size()) {
+      throw new AccountNotFoundException();
     }
+    return accounts;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Map<Long, Account> lockExistingAccounts(Collection<Long> accountIds) {
+    accountStripeService.fold(accountIds);
+    Map<Long, Account> accounts = new HashMap<>();
+    for (Account account : accountRepository.findAllByIdInForUpdate(accountIds)) {
+      accounts.put(account.getId(), account);
+    }
+    return accounts;
   }
 
   @Transactional
   public AccountDTO depositToAccount(long userId, Long accountId, long amount) {
+    return bankingMetrics.recordOperation(
+        "deposit", () -> deposit(userId, accountId, amount), AccountDTO::getCurrency);
+  }
+
+  @Transactional
+  public AccountDTO withdrawFromAccount(long id, Long accountId, long amount) {
+    return bankingMetrics.recordOperation(
+        "withdraw", () -> withdraw(id, accountId, amount), AccountDTO::getCurrency);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public AccountDTO deposit(long userId, Long accountId, long amount) {
     if (amount < 0) {
       throw new InvalidAmountException();
     }
-    Account account =
-        accountRepository
-            .getAccountByUser_IdAndId(userId, accountId)
-            .orElseThrow(AccountNotFoundException::new);
-    account.setAmount(account.getAmount() + amount);
-    return AccountDTO.from(account);
+    AccountBalanceView deposited;
+    if (accountStripeService.isHot(accountId)) {
+      deposited =
+          accountStripeService
+              .deposit(userId, accountId, amount)
+              .orElseThrow(AccountNotFoundException::new);
+      ledgerService.record(deposited.getId(), amount, deposited.getAmount());
+    } else {
+      deposited =
+          accountRepository
+              .depositToAccount(
+                  userId, accountId, amount, ledgerService.correlationId(), Instant.now())
+              .orElseThrow(AccountNotFoundException::new);
+    }
+    cacheInvalidationBus.accountChanged(userId, accountId);
+    return AccountDTO.from(deposited);
   }
 
-  @Transactional
-  public AccountDTO withdrawFromAccount(long id, Long accountId, long amount) {
+  @Transactional(propagation = Propagation.MANDATORY)
+  public AccountDTO withdraw(long id, Long accountId, long amount) {
     if (amount < 0) {
       throw new InvalidAmountException();
     }
-    Account account =
-        accountRepository
-            .getAccountByUser_IdAndId(id, accountId)
-            .orElseThrow(AccountNotFoundException::new);
-    if (account.getAmount() < amount) {
-      throw new InsufficientFundsException(
-          "Cannot withdraw " + amount + " " + account.getAccountCurrency().name());
+    accountStripeService.fold(List.of(accountId));
+    Optional<AccountBalanceView> withdrawn =
+        accountRepository.withdrawFromAccount(
+            id, accountId, amount, ledgerService.correlationId(), Instant.now());
+    if (withdrawn.isPresent()) {
+      cacheInvalidationBus.accountChanged(id, accountId);
+      return AccountDTO.from(withdrawn.get());
     }
-    account.setAmount(account.getAmount() - amount);
-    return AccountDTO.from(account);
+    AccountDTO account =
+        accountRepository.findAccount(id, accountId).orElseThrow(AccountNotFoundException::new);
+    throw new InsufficientFundsException(
+        "Cannot withdraw " + amount + " " + account.getCurrency().name());
+  }
+
+  private AccountDTO loadAccount(long userId, long accountId) {
+    if (accountStripeService.isHot(accountId)) {
+      return accountStripeService
+          .findBalance(userId, accountId)
+          .map(AccountDTO::from)
+          .orElseThrow(AccountNotFoundException::new);
+    }
+    return accountRepository
+        .findAccount(userId, accountId)
+        .orElseThrow(AccountNotFoundException::new);
   }
 }
@@ -0,0 +1,64 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.AccountBalanceView;
+import com.skypro.simplebanking.repository.AccountStripeRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class AccountStripeService {
+  private final AccountStripeRepository accountStripeRepository;
+  private final Set<Long> hotAccountIds;
+  private final int stripes;
+
+  public AccountStripeService(
+      AccountStripeRepository accountStripeRepository,
+      @Value("${app.accounts.hot-ids}") Set<Long> hotAccountIds,
+      @Value("${app.accounts.stripes}") int stripes) {
+    this.accountStripeRepository = accountStripeRepository;
+    this.hotAccountIds = Set.copyOf(hotAccountIds);
+    this.stripes = Math.max(1, stripes);
+  }
+
+  public boolean isHot(long accountId) {
+    return hotAccountIds.contains(accountId);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Optional<AccountBalanceView> deposit(long userId, long accountId, long amount) {
+    int slot = ThreadLocalRandom.current().nextInt(stripes);
+    if (accountStripeRepository.addToStripe(userId, accountId, slot, amount) == 0) {
+      return Optional.empty();
+    }
+    return accountStripeRepository.findBalance(userId, accountId);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void fold(Collection<Long> accountIds) {
+    List<Long> hotIds =
+        accountIds.stream().filter(this::isHot).distinct().collect(Collectors.toList());
+    if (hotIds.isEmpty()) {
+      return;
+    }
+    accountStripeRepository
+        .lockAccountRows(hotIds)
+        .forEach(accountStripeRepository::foldStripes);
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<AccountBalanceView> findBalance(long userId, long accountId) {
+    return accountStripeRepository.findBalance(userId, accountId);
+  }
+
+  public long pendingAmount(long accountId) {
+    return isHot(accountId) ? accountStripeRepository.sumStripes(accountId) : 0;
+  }
+}
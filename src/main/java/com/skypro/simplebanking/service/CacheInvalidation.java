@@ -0,0 +1,85 @@
+package com.skypro.simplebanking.service;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+public class CacheInvalidation {
+  private static final CacheInvalidation ALL = new CacheInvalidation(Kind.ALL, 0, 0, null);
+
+  private final Kind kind;
+  private final long userId;
+  private final long accountId;
+  private final String username;
+
+  private CacheInvalidation(Kind kind, long userId, long accountId, String username) {
+    this.kind = kind;
+    this.userId = userId;
+    this.accountId = accountId;
+    this.username = username;
+  }
+
+  public static CacheInvalidation account(long userId, long accountId) {
+    return new CacheInvalidation(Kind.ACCOUNT, userId, accountId, null);
+  }
+
+  public static CacheInvalidation user(long userId, String username) {
+    return new CacheInvalidation(Kind.USER, userId, 0, username);
+  }
+
+  public static CacheInvalidation all() {
+    return ALL;
+  }
+
+  public static CacheInvalidation decode(String value) {
+    try {
+      int separator = value.indexOf(':', 2);
+      if (value.startsWith("A:")) {
+        return account(
+            Long.parseLong(value.substring(2, separator)),
+            Long.parseLong(value.substring(separator + 1)));
+      }
+      if (value.startsWith("U:")) {
+        return user(
+            Long.parseLong(value.substring(2, separator)),
+            URLDecoder.decode(value.substring(separator + 1), StandardCharsets.UTF_8));
+      }
+    } catch (RuntimeException e) {
+      return ALL;
+    }
+    return ALL;
+  }
+
+  public String encode() {
+    switch (kind) {
+      case ACCOUNT:
+        return "A:" + userId + ":" + accountId;
+      case USER:
+        return "U:" + userId + ":" + URLEncoder.encode(username, StandardCharsets.UTF_8);
+      default:
+        return "*";
+    }
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  public long getUserId() {
+    return userId;
+  }
+
+  public long getAccountId() {
+    return accountId;
+  }
+
+  public String getUsername() {
+    return username;
+  }
+
+  public enum Kind {
+    ACCOUNT,
+    USER,
+    ALL
+  }
+}
@@ -0,0 +1,111 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.configuration.ReplicaStalenessPolicy;
+import com.skypro.simplebanking.configuration.VerifiedCredentialCache;
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CacheInvalidationBus {
+  private final String nodeId = UUID.randomUUID().toString();
+  private final CacheInvalidationChannel channel;
+  private final AccountCache accountCache;
+  private final VerifiedCredentialCache credentialCache;
+  private final ReplicaStalenessPolicy stalenessPolicy;
+  private final BankingMetrics bankingMetrics;
+
+  public CacheInvalidationBus(
+      CacheInvalidationChannel channel,
+      AccountCache accountCache,
+      VerifiedCredentialCache credentialCache,
+      ReplicaStalenessPolicy stalenessPolicy,
+      BankingMetrics bankingMetrics) {
+    this.channel = channel;
+    this.accountCache = accountCache;
+    this.credentialCache = credentialCache;
+    this.stalenessPolicy = stalenessPolicy;
+    this.bankingMetrics = bankingMetrics;
+    channel.subscribe(this::receive);
+  }
+
+  public void accountChanged(long userId, long accountId) {
+    publish(CacheInvalidation.account(userId, accountId));
+  }
+
+  public void userChanged(long userId, String username) {
+    publish(CacheInvalidation.user(userId, username));
+  }
+
+  private void publish(CacheInvalidation invalidation) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      List<CacheInvalidation> invalidations = List.of(invalidation);
+      broadcast(invalidations);
+      apply(invalidations);
+      return;
+    }
+    PendingInvalidations pending =
+        (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      pending = new PendingInvalidations();
+      TransactionSynchronizationManager.bindResource(this, pending);
+      TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+    pending.invalidations.add(invalidation);
+  }
+
+  private void broadcast(List<CacheInvalidation> invalidations) {
+    channel.broadcast(nodeId, invalidations);
+    bankingMetrics.countCacheInvalidations("published", invalidations.size());
+  }
+
+  private void receive(String origin, List<CacheInvalidation> invalidations) {
+    if (nodeId.equals(origin)) {
+      return;
+    }
+    bankingMetrics.countCacheInvalidations(
+        origin == null ? "reset" : "received", invalidations.size());
+    apply(invalidations);
+  }
+
+  private void apply(List<CacheInvalidation> invalidations) {
+    for (CacheInvalidation invalidation : invalidations) {
+      switch (invalidation.getKind()) {
+        case ACCOUNT:
+          stalenessPolicy.recordWrite(invalidation.getUserId());
+          accountCache.evict(invalidation.getUserId(), invalidation.getAccountId());
+          break;
+        case USER:
+          stalenessPolicy.recordWrite(invalidation.getUserId(), invalidation.getUsername());
+          credentialCache.evict(invalidation.getUsername());
+          break;
+        default:
+          accountCache.evictAll();
+          credentialCache.evictAll();
+      }
+    }
+  }
+
+  private class PendingInvalidations implements TransactionSynchronization {
+    private final List<CacheInvalidation> invalidations = new ArrayList<>();
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      broadcast(invalidations);
+    }
+
+    @Override
+    public void afterCommit() {
+      apply(invalidations);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResource(CacheInvalidationBus.this);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.skypro.simplebanking.service;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public interface CacheInvalidationChannel {
+  /**
+   * Sends invalidations to every node once the current transaction commits; nothing is delivered
+   * if it rolls back. Listeners receive the origin passed here, or {@code null} when the channel
+   * may have missed messages and all caches must be dropped.
+   */
+  void broadcast(String origin, List<CacheInvalidation> invalidations);
+
+  void subscribe(BiConsumer<String, List<CacheInvalidation>> listener);
+}
@@ -0,0 +1,61 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class FxRateService {
+  private static final Logger log = LoggerFactory.getLogger(FxRateService.class);
+
+  private final Resource ratesResource;
+  private final BankingMetrics bankingMetrics;
+  private final AtomicReference<FxRateSnapshot> snapshot;
+
+  public FxRateService(
+      ResourceLoader resourceLoader,
+      BankingMetrics bankingMetrics,
+      @Value("${app.fx.rates-location}") String ratesLocation) {
+    this.ratesResource = resourceLoader.getResource(ratesLocation);
+    this.bankingMetrics = bankingMetrics;
+    this.snapshot = new AtomicReference<>(load());
+  }
+
+  public FxRateSnapshot current() {
+    return snapshot.get();
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.fx.refresh-interval}",
+      fixedDelayString = "${app.fx.refresh-interval}")
+  public void reload() {
+    try {
+      snapshot.set(load());
+      bankingMetrics.countFxRateReload("success");
+    } catch (RuntimeException e) {
+      log.warn("Failed to reload FX rates from {}, keeping the previous rates", ratesResource, e);
+      bankingMetrics.countFxRateReload("failure");
+    }
+  }
+
+  private FxRateSnapshot load() {
+    Properties properties = new Properties();
+    try (InputStream input = ratesResource.getInputStream()) {
+      properties.load(input);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read FX rates from " + ratesResource, e);
+    }
+    return FxRateSnapshot.parse(properties, Instant.now());
+  }
+}
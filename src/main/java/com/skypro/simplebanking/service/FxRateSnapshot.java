@@ -0,0 +1,90 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.exception.FxRateUnavailableException;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+
+public final class FxRateSnapshot {
+  public static final int RATE_SCALE = 8;
+  public static final long RATE_UNIT = 100_000_000L;
+
+  private static final int CURRENCIES = AccountCurrency.values().length;
+  private static final long MISSING = 0;
+
+  private final long[] rates;
+  private final Instant loadedAt;
+
+  private FxRateSnapshot(long[] rates, Instant loadedAt) {
+    this.rates = rates;
+    this.loadedAt = loadedAt;
+  }
+
+  public static FxRateSnapshot parse(Properties properties, Instant loadedAt) {
+    long[] rates = new long[CURRENCIES * CURRENCIES];
+    Arrays.fill(rates, MISSING);
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      rates[index(currency, currency)] = RATE_UNIT;
+    }
+    for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+      String[] pair = entry.getKey().toString().trim().split("\\.");
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("FX rate key should be FROM.TO: " + entry.getKey());
+      }
+      long rate = parseRate(entry.getKey(), new BigDecimal(entry.getValue().toString().trim()));
+      if (rate <= 0) {
+        throw new IllegalArgumentException("FX rate should be positive: " + entry.getKey());
+      }
+      rates[index(AccountCurrency.valueOf(pair[0]), AccountCurrency.valueOf(pair[1]))] = rate;
+    }
+    return new FxRateSnapshot(rates, loadedAt);
+  }
+
+  private static long parseRate(Object key, BigDecimal rate) {
+    if (rate.stripTrailingZeros().scale() > RATE_SCALE) {
+      throw new IllegalArgumentException(
+          "FX rate should have at most " + RATE_SCALE + " decimal places: " + key);
+    }
+    try {
+      return rate.setScale(RATE_SCALE).unscaledValue().longValueExact();
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("FX rate is too large: " + key, e);
+    }
+  }
+
+  public long rate(AccountCurrency from, AccountCurrency to) {
+    long rate = rates[index(from, to)];
+    if (rate == MISSING) {
+      throw new FxRateUnavailableException("No exchange rate from " + from + " to " + to);
+    }
+    return rate;
+  }
+
+  public Instant getLoadedAt() {
+    return loadedAt;
+  }
+
+  public static long convert(long amount, long rate) {
+    try {
+      return Math.multiplyExact(amount, rate) / RATE_UNIT;
+    } catch (ArithmeticException e) {
+      BigInteger converted =
+          BigInteger.valueOf(amount)
+              .multiply(BigInteger.valueOf(rate))
+              .divide(BigInteger.valueOf(RATE_UNIT));
+      if (converted.bitLength() >= Long.SIZE) {
+        throw new InvalidAmountException();
+      }
+      return converted.longValue();
+    }
+  }
+
+  private static int index(AccountCurrency from, AccountCurrency to) {
+    return from.ordinal() * CURRENCIES + to.ordinal();
+  }
+}
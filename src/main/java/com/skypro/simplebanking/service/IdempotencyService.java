@@ -0,0 +1,140 @@
+package com.skypro.simplebanking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skypro.simplebanking.entity.IdempotencyRecord;
+import com.skypro.simplebanking.entity.IdempotencyRecordId;
+import com.skypro.simplebanking.exception.IdempotencyKeyReusedException;
+import com.skypro.simplebanking.exception.InvalidIdempotencyKeyException;
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import com.skypro.simplebanking.repository.IdempotencyRecordRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class IdempotencyService {
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyRecordRepository idempotencyRecordRepository;
+  private final ObjectMapper objectMapper;
+  private final BankingMetrics bankingMetrics;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration ttl;
+  private final Cache<IdempotencyRecordId, CompletedRequest> completedRequests;
+
+  public IdempotencyService(
+      IdempotencyRecordRepository idempotencyRecordRepository,
+      ObjectMapper objectMapper,
+      BankingMetrics bankingMetrics,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.idempotency.ttl}") Duration ttl,
+      @Value("${app.idempotency.cache.max-size}") long maxSize) {
+    this.idempotencyRecordRepository = idempotencyRecordRepository;
+    this.objectMapper = objectMapper;
+    this.bankingMetrics = bankingMetrics;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ttl = ttl;
+    this.completedRequests =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+  }
+
+  public <T> T execute(
+      long userId, String key, String fingerprint, Class<T> responseType, Supplier<T> action) {
+    if (key == null) {
+      return action.get();
+    }
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new InvalidIdempotencyKeyException();
+    }
+    IdempotencyRecordId id = new IdempotencyRecordId(userId, key);
+    CompletedRequest cached =
+        bankingMetrics.recordIdempotencyLookup("cache", () -> completedRequests.getIfPresent(id));
+    if (cached != null) {
+      return replay(cached, fingerprint, responseType);
+    }
+    return transactionTemplate.execute(
+        status -> claimAndExecute(id, userId, key, fingerprint, responseType, action));
+  }
+
+  @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval}")
+  public void deleteExpiredKeys() {
+    idempotencyRecordRepository.deleteCreatedBefore(Instant.now().minus(ttl));
+  }
+
+  private <T> T claimAndExecute(
+      IdempotencyRecordId id,
+      long userId,
+      String key,
+      String fingerprint,
+      Class<T> responseType,
+      Supplier<T> action) {
+    boolean claimed =
+        bankingMetrics.recordIdempotencyLookup(
+            "database",
+            () ->
+                idempotencyRecordRepository.claim(userId, key, fingerprint, Instant.now()) == 1);
+    if (!claimed) {
+      IdempotencyRecord record =
+          idempotencyRecordRepository
+              .findByUserIdAndIdempotencyKey(userId, key)
+              .orElseThrow(IdempotencyKeyReusedException::new);
+      CompletedRequest completed =
+          new CompletedRequest(record.getFingerprint(), record.getResponse());
+      completedRequests.put(id, completed);
+      return replay(completed, fingerprint, responseType);
+    }
+    bankingMetrics.countIdempotentRequest("new");
+    T response = action.get();
+    String json = write(response);
+    idempotencyRecordRepository.complete(userId, key, json);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            completedRequests.put(id, new CompletedRequest(fingerprint, json));
+          }
+        });
+    return response;
+  }
+
+  private <T> T replay(CompletedRequest completed, String fingerprint, Class<T> responseType) {
+    if (!completed.fingerprint.equals(fingerprint)) {
+      bankingMetrics.countIdempotentRequest("reused");
+      throw new IdempotencyKeyReusedException();
+    }
+    bankingMetrics.countIdempotentRequest("replayed");
+    try {
+      return objectMapper.readValue(completed.response, responseType);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String write(Object response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class CompletedRequest {
+    private final String fingerprint;
+    private final String response;
+
+    private CompletedRequest(String fingerprint, String response) {
+      this.fingerprint = fingerprint;
+      this.response = response;
+    }
+  }
+}
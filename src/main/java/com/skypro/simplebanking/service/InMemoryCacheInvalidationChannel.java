@@ -0,0 +1,57 @@
+package com.skypro.simplebanking.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.BiConsumer;
+import javax.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "memory")
+public class InMemoryCacheInvalidationChannel implements CacheInvalidationChannel {
+  private static final Set<InMemoryCacheInvalidationChannel> CHANNELS =
+      new CopyOnWriteArraySet<>();
+
+  private final List<BiConsumer<String, List<CacheInvalidation>>> listeners =
+      new CopyOnWriteArrayList<>();
+
+  public InMemoryCacheInvalidationChannel() {
+    CHANNELS.add(this);
+  }
+
+  @Override
+  public void broadcast(String origin, List<CacheInvalidation> invalidations) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      deliver(origin, invalidations);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            deliver(origin, invalidations);
+          }
+        });
+  }
+
+  @Override
+  public void subscribe(BiConsumer<String, List<CacheInvalidation>> listener) {
+    listeners.add(listener);
+  }
+
+  @PreDestroy
+  public void close() {
+    CHANNELS.remove(this);
+  }
+
+  private static void deliver(String origin, List<CacheInvalidation> invalidations) {
+    for (InMemoryCacheInvalidationChannel channel : CHANNELS) {
+      channel.listeners.forEach(listener -> listener.accept(origin, invalidations));
+    }
+  }
+}
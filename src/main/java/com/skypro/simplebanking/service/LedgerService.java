@@ -0,0 +1,100 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.LedgerEntryDTO;
+import com.skypro.simplebanking.entity.LedgerEntry;
+import com.skypro.simplebanking.exception.AccountNotFoundException;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.LedgerEntryRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class LedgerService {
+  private static final int MAX_HISTORY_PAGE_SIZE = 500;
+
+  private final LedgerEntryRepository ledgerEntryRepository;
+  private final AccountRepository accountRepository;
+  private final int bufferSize;
+
+  public LedgerService(
+      LedgerEntryRepository ledgerEntryRepository,
+      AccountRepository accountRepository,
+      @Value("${app.ledger.buffer-size}") int bufferSize) {
+    this.ledgerEntryRepository = ledgerEntryRepository;
+    this.accountRepository = accountRepository;
+    this.bufferSize = bufferSize;
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void record(long accountId, long delta, long balance) {
+    LedgerBuffer buffer = currentBuffer();
+    LedgerEntry entry = new LedgerEntry();
+    entry.setAccountId(accountId);
+    entry.setDelta(delta);
+    entry.setBalance(balance);
+    entry.setCreatedAt(Instant.now());
+    entry.setCorrelationId(buffer.correlationId);
+    buffer.entries.add(entry);
+    if (buffer.entries.size() >= bufferSize) {
+      buffer.drain();
+    }
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public String correlationId() {
+    return currentBuffer().correlationId;
+  }
+
+  @Transactional(readOnly = true)
+  public List<LedgerEntryDTO> getHistory(long userId, long accountId, long before, int limit) {
+    if (!accountRepository.existsByUser_IdAndId(userId, accountId)) {
+      throw new AccountNotFoundException();
+    }
+    int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+    return ledgerEntryRepository
+        .findPageBefore(accountId, before, PageRequest.of(0, pageSize))
+        .stream()
+        .map(LedgerEntryDTO::from)
+        .collect(Collectors.toList());
+  }
+
+  private LedgerBuffer currentBuffer() {
+    LedgerBuffer buffer = (LedgerBuffer) TransactionSynchronizationManager.getResource(this);
+    if (buffer == null) {
+      buffer = new LedgerBuffer();
+      TransactionSynchronizationManager.bindResource(this, buffer);
+      TransactionSynchronizationManager.registerSynchronization(buffer);
+    }
+    return buffer;
+  }
+
+  private class LedgerBuffer implements TransactionSynchronization {
+    private final String correlationId = UUID.randomUUID().toString();
+    private final List<LedgerEntry> entries = new ArrayList<>();
+
+    private void drain() {
+      ledgerEntryRepository.saveAll(entries);
+      entries.clear();
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      drain();
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResource(LedgerService.this);
+    }
+  }
+}
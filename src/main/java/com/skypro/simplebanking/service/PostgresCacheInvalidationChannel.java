@@ -0,0 +1,153 @@
+package com.skypro.simplebanking.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    name = "app.cache.invalidation.transport",
+    havingValue = "postgres",
+    matchIfMissing = true)
+public class PostgresCacheInvalidationChannel implements CacheInvalidationChannel, SmartLifecycle {
+  private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSourceProperties dataSourceProperties;
+  private final String channel;
+  private final Duration pollTimeout;
+  private final Duration reconnectDelay;
+  private final List<BiConsumer<String, List<CacheInvalidation>>> listeners =
+      new CopyOnWriteArrayList<>();
+  private final CustomizableThreadFactory threadFactory =
+      new CustomizableThreadFactory("cache-invalidation-");
+  private Thread listener;
+  private volatile boolean running;
+
+  public PostgresCacheInvalidationChannel(
+      JdbcTemplate jdbcTemplate,
+      DataSourceProperties dataSourceProperties,
+      @Value("${app.cache.invalidation.postgres.channel}") String channel,
+      @Value("${app.cache.invalidation.postgres.poll-timeout}") Duration pollTimeout,
+      @Value("${app.cache.invalidation.postgres.reconnect-delay}") Duration reconnectDelay) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSourceProperties = dataSourceProperties;
+    this.channel = channel;
+    this.pollTimeout = pollTimeout;
+    this.reconnectDelay = reconnectDelay;
+    this.threadFactory.setDaemon(true);
+  }
+
+  @Override
+  public void broadcast(String origin, List<CacheInvalidation> invalidations) {
+    StringBuilder payload = new StringBuilder(origin);
+    for (CacheInvalidation invalidation : invalidations) {
+      String encoded = invalidation.encode();
+      if (payload.length() + encoded.length() >= MAX_PAYLOAD_LENGTH) {
+        send(payload.toString());
+        payload.setLength(0);
+        payload.append(origin);
+      }
+      payload.append('\n').append(encoded);
+    }
+    send(payload.toString());
+  }
+
+  @Override
+  public void subscribe(BiConsumer<String, List<CacheInvalidation>> listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public synchronized void start() {
+    running = true;
+    listener = threadFactory.newThread(this::listen);
+    listener.start();
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    try {
+      listener.join(pollTimeout.multipliedBy(2).toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void send(String payload) {
+    jdbcTemplate.query("select pg_notify(?, ?)", resultSet -> {}, channel, payload);
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection =
+          DriverManager.getConnection(
+              dataSourceProperties.determineUrl(),
+              dataSourceProperties.determineUsername(),
+              dataSourceProperties.determinePassword())) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN \"" + channel + "\"");
+        }
+        deliver(null, List.of(CacheInvalidation.all()));
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications =
+              pgConnection.getNotifications((int) pollTimeout.toMillis());
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              receive(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (!pause()) {
+          return;
+        }
+      }
+    }
+  }
+
+  private void receive(String payload) {
+    String[] lines = payload.split("\n");
+    List<CacheInvalidation> invalidations = new ArrayList<>(lines.length - 1);
+    for (int i = 1; i < lines.length; i++) {
+      invalidations.add(CacheInvalidation.decode(lines[i]));
+    }
+    deliver(lines[0], invalidations);
+  }
+
+  private void deliver(String origin, List<CacheInvalidation> invalidations) {
+    listeners.forEach(listener -> listener.accept(origin, invalidations));
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(reconnectDelay.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.skypro.simplebanking.service;
+
+import java.time.Instant;
+import java.util.List;
+
+public class TransferQueueClaim {
+  private final Instant claimedAt;
+  private final List<Long> ids;
+
+  public TransferQueueClaim(Instant claimedAt, List<Long> ids) {
+    this.claimedAt = claimedAt;
+    this.ids = ids;
+  }
+
+  public Instant getClaimedAt() {
+    return claimedAt;
+  }
+
+  public List<Long> getIds() {
+    return ids;
+  }
+}
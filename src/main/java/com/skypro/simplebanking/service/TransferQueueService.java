@@ -0,0 +1,199 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.QueuedTransferDTO;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.entity.QueuedTransfer;
+import com.skypro.simplebanking.entity.QueuedTransferStatus;
+import com.skypro.simplebanking.exception.AccountNotFoundException;
+import com.skypro.simplebanking.exception.FxRateUnavailableException;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.exception.QueuedTransferNotFoundException;
+import com.skypro.simplebanking.exception.TransferQueueFullException;
+import com.skypro.simplebanking.exception.WrongCurrencyException;
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import com.skypro.simplebanking.repository.QueuedTransferRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class TransferQueueService {
+  private final QueuedTransferRepository queuedTransferRepository;
+  private final TransferService transferService;
+  private final BankingMetrics bankingMetrics;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxAttempts;
+  private final Duration claimTimeout;
+  private final long maxPending;
+  private final AtomicLong pendingEstimate = new AtomicLong();
+
+  public TransferQueueService(
+      QueuedTransferRepository queuedTransferRepository,
+      TransferService transferService,
+      BankingMetrics bankingMetrics,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.transfer-queue.max-attempts}") int maxAttempts,
+      @Value("${app.transfer-queue.claim-timeout}") Duration claimTimeout,
+      @Value("${app.transfer-queue.max-pending}") long maxPending) {
+    this.queuedTransferRepository = queuedTransferRepository;
+    this.transferService = transferService;
+    this.bankingMetrics = bankingMetrics;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxAttempts = maxAttempts;
+    this.claimTimeout = claimTimeout;
+    this.maxPending = maxPending;
+    for (QueuedTransferStatus status :
+        List.of(QueuedTransferStatus.PENDING, QueuedTransferStatus.PROCESSING)) {
+      bankingMetrics.gaugeTransferQueueDepth(
+          status.name().toLowerCase(), () -> queuedTransferRepository.countByStatus(status));
+    }
+  }
+
+  public void checkCapacity() {
+    if (pendingEstimate.get() >= maxPending) {
+      throw new TransferQueueFullException();
+    }
+  }
+
+  public QueuedTransferDTO submit(long userId, TransferRequest transferRequest) {
+    checkCapacity();
+    QueuedTransfer transfer = new QueuedTransfer();
+    transfer.setUserId(userId);
+    transfer.setFromAccountId(transferRequest.getFromAccountId());
+    transfer.setToUserId(transferRequest.getToUserId());
+    transfer.setToAccountId(transferRequest.getToAccountId());
+    transfer.setAmount(transferRequest.getAmount());
+    transfer.setAllowConversion(transferRequest.isAllowConversion());
+    transfer.setStatus(QueuedTransferStatus.PENDING);
+    transfer.setCreatedAt(Instant.now());
+    QueuedTransferDTO queued = QueuedTransferDTO.from(queuedTransferRepository.save(transfer));
+    pendingEstimate.incrementAndGet();
+    return queued;
+  }
+
+  @Transactional(readOnly = true)
+  public QueuedTransferDTO getTransfer(long userId, long id) {
+    return queuedTransferRepository
+        .findByIdAndUserId(id, userId)
+        .map(QueuedTransferDTO::from)
+        .orElseThrow(QueuedTransferNotFoundException::new);
+  }
+
+  @Transactional
+  public TransferQueueClaim claim(int batchSize) {
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    List<Long> claimed =
+        queuedTransferRepository
+            .findByStatusSkipLocked(QueuedTransferStatus.PENDING, PageRequest.of(0, batchSize))
+            .stream()
+            .map(
+                transfer -> {
+                  transfer.setStatus(QueuedTransferStatus.PROCESSING);
+                  transfer.setClaimedAt(now);
+                  return transfer.getId();
+                })
+            .collect(Collectors.toList());
+    pendingEstimate.set(
+        claimed.size() < batchSize
+            ? 0
+            : queuedTransferRepository.countByStatus(QueuedTransferStatus.PENDING));
+    return new TransferQueueClaim(now, claimed);
+  }
+
+  public void process(long id, Instant claimedAt) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> apply(id, claimedAt));
+    } catch (RuntimeException e) {
+      transactionTemplate.executeWithoutResult(status -> reject(id, claimedAt, e));
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.transfer-queue.pending-refresh-interval}")
+  public void refreshPendingEstimate() {
+    pendingEstimate.set(queuedTransferRepository.countByStatus(QueuedTransferStatus.PENDING));
+  }
+
+  @Scheduled(fixedDelayString = "${app.transfer-queue.claim-timeout}")
+  @Transactional
+  public void releaseStaleClaims() {
+    queuedTransferRepository.releaseClaimsBefore(
+        QueuedTransferStatus.PENDING,
+        QueuedTransferStatus.PROCESSING,
+        Instant.now().minus(claimTimeout));
+  }
+
+  private void apply(long id, Instant claimedAt) {
+    QueuedTransfer transfer = queuedTransferRepository.findWithLockById(id).orElseThrow();
+    if (!isClaimedAt(transfer, claimedAt)) {
+      return;
+    }
+    TransferRequest transferRequest = new TransferRequest();
+    transferRequest.setFromAccountId(transfer.getFromAccountId());
+    transferRequest.setToUserId(transfer.getToUserId());
+    transferRequest.setToAccountId(transfer.getToAccountId());
+    transferRequest.setAmount(transfer.getAmount());
+    transferRequest.setAllowConversion(transfer.isAllowConversion());
+    transferService.transfer(transfer.getUserId(), transferRequest);
+    complete(transfer, QueuedTransferStatus.COMPLETED, null);
+  }
+
+  private void reject(long id, Instant claimedAt, RuntimeException e) {
+    QueuedTransfer transfer = queuedTransferRepository.findWithLockById(id).orElseThrow();
+    if (!isClaimedAt(transfer, claimedAt)) {
+      return;
+    }
+    String reason = rejectionReason(e);
+    if (reason != null) {
+      complete(transfer, QueuedTransferStatus.FAILED, reason);
+      return;
+    }
+    transfer.setAttempts(transfer.getAttempts() + 1);
+    if (transfer.getAttempts() >= maxAttempts) {
+      complete(transfer, QueuedTransferStatus.FAILED, "Transfer could not be applied");
+      return;
+    }
+    transfer.setStatus(QueuedTransferStatus.PENDING);
+    transfer.setClaimedAt(null);
+  }
+
+  private static boolean isClaimedAt(QueuedTransfer transfer, Instant claimedAt) {
+    return transfer.getStatus() == QueuedTransferStatus.PROCESSING
+        && claimedAt.equals(transfer.getClaimedAt());
+  }
+
+  private void complete(QueuedTransfer transfer, QueuedTransferStatus status, String error) {
+    Instant now = Instant.now();
+    transfer.setStatus(status);
+    transfer.setError(error);
+    transfer.setCompletedAt(now);
+    bankingMetrics.recordQueuedTransfer(
+        status.name().toLowerCase(), Duration.between(transfer.getCreatedAt(), now));
+  }
+
+  private static String rejectionReason(RuntimeException e) {
+    if (e instanceof AccountNotFoundException) {
+      return "Account not found";
+    }
+    if (e instanceof InvalidAmountException) {
+      return "Amount should be more than 0";
+    }
+    if (e instanceof WrongCurrencyException) {
+      return "Account currencies should be same";
+    }
+    if (e instanceof InsufficientFundsException || e instanceof FxRateUnavailableException) {
+      return e.getMessage();
+    }
+    return null;
+  }
+}
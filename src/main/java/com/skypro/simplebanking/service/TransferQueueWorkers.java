@@ -0,0 +1,102 @@
+package com.skypro.simplebanking.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransferQueueWorkers implements SmartLifecycle {
+  private static final Logger log = LoggerFactory.getLogger(TransferQueueWorkers.class);
+
+  private final TransferQueueService transferQueueService;
+  private final int workers;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final CustomizableThreadFactory threadFactory =
+      new CustomizableThreadFactory("transfer-queue-");
+  private final List<Thread> threads = new ArrayList<>();
+  private volatile boolean running;
+
+  public TransferQueueWorkers(
+      TransferQueueService transferQueueService,
+      @Value("${app.transfer-queue.workers}") int workers,
+      @Value("${app.transfer-queue.batch-size}") int batchSize,
+      @Value("${app.transfer-queue.poll-interval}") Duration pollInterval) {
+    this.transferQueueService = transferQueueService;
+    this.workers = workers;
+    this.batchSize = Math.max(1, batchSize);
+    this.pollInterval = pollInterval;
+    this.threadFactory.setDaemon(true);
+  }
+
+  @Override
+  public synchronized void start() {
+    running = true;
+    for (int i = 0; i < workers; i++) {
+      Thread thread = threadFactory.newThread(this::work);
+      threads.add(thread);
+      thread.start();
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    for (Thread thread : threads) {
+      try {
+        thread.join(TimeUnit.SECONDS.toMillis(30));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+    threads.clear();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void work() {
+    while (running) {
+      TransferQueueClaim claim;
+      try {
+        claim = transferQueueService.claim(batchSize);
+      } catch (RuntimeException e) {
+        log.warn("Failed to claim queued transfers", e);
+        if (!pause()) {
+          return;
+        }
+        continue;
+      }
+      for (Long id : claim.getIds()) {
+        try {
+          transferQueueService.process(id, claim.getClaimedAt());
+        } catch (RuntimeException e) {
+          log.warn("Failed to process queued transfer {}", id, e);
+        }
+      }
+      if (claim.getIds().isEmpty() && !pause()) {
+        return;
+      }
+    }
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(pollInterval.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
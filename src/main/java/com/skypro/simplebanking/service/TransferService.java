@@ -1,6 +1,29 @@
 package com.skypro.simplebanking.service;
 
+import com.skypro.simplebanking.dto.BatchTransferMode;
+import com.skypro.simplebanking.dto.BatchTransferRequest;
 import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.TransferResultDTO;
+import com.skypro.simplebanking.dto.TransferStatus;
+import com.skypro.simplebanking.entity.Account;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.FxConversion;
+import com.skypro.simplebanking.exception.AccountNotFoundException;
+import com.skypro.simplebanking.exception.BatchTransferRejectedException;
+import com.skypro.simplebanking.exception.FxRateUnavailableException;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.exception.WrongCurrencyException;
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import com.skypro.simplebanking.repository.FxConversionRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -8,20 +31,190 @@ import org.springframework.web.bind.annotation.RequestBody;
 @Service
 public class TransferService {
   private final AccountService accountService;
+  private final LedgerService ledgerService;
+  private final BankingMetrics bankingMetrics;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final FxRateService fxRateService;
+  private final FxConversionRepository fxConversionRepository;
 
-  public TransferService(AccountService accountService) {
+  public TransferService(
+      AccountService accountService,
+      LedgerService ledgerService,
+      BankingMetrics bankingMetrics,
+      CacheInvalidationBus cacheInvalidationBus,
+      FxRateService fxRateService,
+      FxConversionRepository fxConversionRepository) {
     this.accountService = accountService;
+    this.ledgerService = ledgerService;
+    this.bankingMetrics = bankingMetrics;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.fxRateService = fxRateService;
+    this.fxConversionRepository = fxConversionRepository;
   }
 
   @Transactional
   public void transfer(long id, @RequestBody TransferRequest transferRequest) {
-    accountService.validateCurrency(
-        transferRequest.getFromAccountId(), transferRequest.getToAccountId());
-    accountService.withdrawFromAccount(
-        id, transferRequest.getFromAccountId(), transferRequest.getAmount());
-    accountService.depositToAccount(
+    bankingMetrics.recordOperation(
+        "transfer", () -> applyTransfer(id, transferRequest), Function.identity());
+  }
+
+  @Transactional
+  public List<TransferResultDTO> transferBatch(long id, BatchTransferRequest batchRequest) {
+    return bankingMetrics.recordOperation(
+        "transfer_batch", () -> applyBatch(id, batchRequest), results -> null);
+  }
+
+  private AccountCurrency applyTransfer(long id, TransferRequest transferRequest) {
+    Map<Long, Account> accounts = new HashMap<>();
+    for (Account account :
+        accountService.lockAccounts(
+            List.of(transferRequest.getFromAccountId(), transferRequest.getToAccountId()))) {
+      accounts.put(account.getId(), account);
+    }
+    Account source = accounts.get(transferRequest.getFromAccountId());
+    FxConversion conversion =
+        convert(transferRequest, source, accounts.get(transferRequest.getToAccountId()));
+    accountService.withdraw(id, transferRequest.getFromAccountId(), transferRequest.getAmount());
+    accountService.deposit(
         transferRequest.getToUserId(),
         transferRequest.getToAccountId(),
-        transferRequest.getAmount());
+        conversion == null ? transferRequest.getAmount() : conversion.getToAmount());
+    if (conversion != null) {
+      fxConversionRepository.save(conversion);
+    }
+    return source.getAccountCurrency();
+  }
+
+  private List<TransferResultDTO> applyBatch(long id, BatchTransferRequest batchRequest) {
+    List<TransferRequest> transfers = batchRequest.getTransfers();
+    Set<Long> accountIds = new HashSet<>();
+    for (TransferRequest transfer : transfers) {
+      accountIds.add(transfer.getFromAccountId());
+      accountIds.add(transfer.getToAccountId());
+    }
+    Map<Long, Account> accounts = accountService.lockExistingAccounts(accountIds);
+    Map<Long, Long> balances = new HashMap<>();
+    List<BalanceMovement> movements = new ArrayList<>();
+    List<FxConversion> conversions = new ArrayList<>();
+    List<TransferResultDTO> results = new ArrayList<>(transfers.size());
+    boolean rejected = false;
+    for (int index = 0; index < transfers.size(); index++) {
+      try {
+        applyBatchItem(id, transfers.get(index), accounts, balances, movements, conversions);
+        results.add(new TransferResultDTO(index, TransferStatus.APPLIED, null));
+      } catch (AccountNotFoundException e) {
+        rejected = true;
+        results.add(new TransferResultDTO(index, TransferStatus.REJECTED, "Account not found"));
+      } catch (InvalidAmountException e) {
+        rejected = true;
+        results.add(
+            new TransferResultDTO(index, TransferStatus.REJECTED, "Amount should be more than 0"));
+      } catch (WrongCurrencyException e) {
+        rejected = true;
+        results.add(
+            new TransferResultDTO(
+                index, TransferStatus.REJECTED, "Account currencies should be same"));
+      } catch (InsufficientFundsException | FxRateUnavailableException e) {
+        rejected = true;
+        results.add(new TransferResultDTO(index, TransferStatus.REJECTED, e.getMessage()));
+      }
+    }
+    if (rejected && batchRequest.getMode() == BatchTransferMode.ALL_OR_NOTHING) {
+      List<TransferResultDTO> rolledBack = new ArrayList<>(results.size());
+      for (TransferResultDTO result : results) {
+        rolledBack.add(
+            result.getStatus() == TransferStatus.APPLIED
+                ? new TransferResultDTO(result.getIndex(), TransferStatus.ROLLED_BACK, null)
+                : result);
+      }
+      throw new BatchTransferRejectedException(rolledBack);
+    }
+    balances.forEach(
+        (accountId, balance) -> {
+          Account account = accounts.get(accountId);
+          account.setAmount(balance);
+          cacheInvalidationBus.accountChanged(account.getUser().getId(), accountId);
+        });
+    for (BalanceMovement movement : movements) {
+      ledgerService.record(movement.accountId, movement.delta, movement.balance);
+    }
+    fxConversionRepository.saveAll(conversions);
+    return results;
+  }
+
+  private void applyBatchItem(
+      long id,
+      TransferRequest transfer,
+      Map<Long, Account> accounts,
+      Map<Long, Long> balances,
+      List<BalanceMovement> movements,
+      List<FxConversion> conversions) {
+    Account source = accounts.get(transfer.getFromAccountId());
+    Account destination = accounts.get(transfer.getToAccountId());
+    if (source == null
+        || destination == null
+        || source.getUser().getId() != id
+        || destination.getUser().getId() != transfer.getToUserId()) {
+      throw new AccountNotFoundException();
+    }
+    if (transfer.getAmount() < 0) {
+      throw new InvalidAmountException();
+    }
+    FxConversion conversion = convert(transfer, source, destination);
+    long credited = conversion == null ? transfer.getAmount() : conversion.getToAmount();
+    long sourceBalance = balances.getOrDefault(source.getId(), source.getAmount());
+    if (sourceBalance < transfer.getAmount()) {
+      throw new InsufficientFundsException(
+          "Cannot withdraw " + transfer.getAmount() + " " + source.getAccountCurrency().name());
+    }
+    balances.put(source.getId(), sourceBalance - transfer.getAmount());
+    movements.add(
+        new BalanceMovement(
+            source.getId(), -transfer.getAmount(), balances.get(source.getId())));
+    long destinationBalance =
+        balances.getOrDefault(destination.getId(), destination.getAmount()) + credited;
+    balances.put(destination.getId(), destinationBalance);
+    movements.add(new BalanceMovement(destination.getId(), credited, destinationBalance));
+    if (conversion != null) {
+      conversions.add(conversion);
+    }
+  }
+
+  private FxConversion convert(TransferRequest transfer, Account source, Account destination) {
+    if (source.getAccountCurrency() == destination.getAccountCurrency()) {
+      return null;
+    }
+    if (!transfer.isAllowConversion()) {
+      throw new WrongCurrencyException();
+    }
+    FxRateSnapshot rates = fxRateService.current();
+    long rate = rates.rate(source.getAccountCurrency(), destination.getAccountCurrency());
+    long credited = FxRateSnapshot.convert(transfer.getAmount(), rate);
+    if (credited <= 0) {
+      throw new InvalidAmountException();
+    }
+    FxConversion conversion = new FxConversion();
+    conversion.setFromAccountId(source.getId());
+    conversion.setToAccountId(destination.getId());
+    conversion.setFromCurrency(source.getAccountCurrency());
+    conversion.setToCurrency(destination.getAccountCurrency());
+    conversion.setFromAmount(transfer.getAmount());
+    conversion.setToAmount(credited);
+    conversion.setRate(rate);
+    conversion.setRateLoadedAt(rates.getLoadedAt());
+    conversion.setCreatedAt(Instant.now());
+    return conversion;
+  }
+
+  private static class BalanceMovement {
+    private final long accountId;
+    private final long delta;
+    private final long balance;
+
+    private BalanceMovement(long accountId, long delta, long balance) {
+      this.accountId = accountId;
+      this.delta = delta;
+      this.balance = balance;
+    }
   }
 }
@@ -0,0 +1,103 @@
+package com.skypro.simplebanking.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.dto.CreateUserRequest;
+import com.skypro.simplebanking.exception.InvalidImportFileException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class UserImportReader {
+  private static final String CSV_HEADER = "username,password";
+
+  private UserImportReader() {}
+
+  public static Iterator<CreateUserRequest> json(ObjectMapper objectMapper, InputStream input) {
+    try {
+      JsonParser parser = objectMapper.getFactory().createParser(input);
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new InvalidImportFileException("Expected a JSON array of users", null);
+      }
+      if (parser.nextToken() == JsonToken.END_ARRAY) {
+        return Collections.emptyIterator();
+      }
+      MappingIterator<CreateUserRequest> users =
+          objectMapper.readerFor(CreateUserRequest.class).readValues(parser);
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          try {
+            return users.hasNextValue();
+          } catch (IOException e) {
+            throw new InvalidImportFileException("Malformed JSON import file", e);
+          }
+        }
+
+        @Override
+        public CreateUserRequest next() {
+          try {
+            return users.nextValue();
+          } catch (IOException e) {
+            throw new InvalidImportFileException("Malformed JSON import file", e);
+          }
+        }
+      };
+    } catch (IOException e) {
+      throw new InvalidImportFileException("Malformed JSON import file", e);
+    }
+  }
+
+  public static Iterator<CreateUserRequest> csv(InputStream input) {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    return new Iterator<>() {
+      private String nextLine = readLine(true);
+
+      @Override
+      public boolean hasNext() {
+        return nextLine != null;
+      }
+
+      @Override
+      public CreateUserRequest next() {
+        if (nextLine == null) {
+          throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = readLine(false);
+        CreateUserRequest request = new CreateUserRequest();
+        int separator = line.indexOf(',');
+        if (separator >= 0) {
+          request.setUsername(line.substring(0, separator).trim());
+          request.setPassword(line.substring(separator + 1));
+        }
+        return request;
+      }
+
+      private String readLine(boolean first) {
+        try {
+          String line = reader.readLine();
+          while (line != null && (line.isBlank() || first && isHeader(line))) {
+            first = false;
+            line = reader.readLine();
+          }
+          return line;
+        } catch (IOException e) {
+          throw new InvalidImportFileException("Unreadable CSV import file", e);
+        }
+      }
+    };
+  }
+
+  private static boolean isHeader(String line) {
+    return line.trim().equalsIgnoreCase(CSV_HEADER);
+  }
+}
@@ -0,0 +1,204 @@
+package com.skypro.simplebanking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skypro.simplebanking.dto.CreateUserRequest;
+import com.skypro.simplebanking.dto.UserImportDTO;
+import com.skypro.simplebanking.dto.UserImportState;
+import com.skypro.simplebanking.entity.User;
+import com.skypro.simplebanking.metrics.BankingMetrics;
+import com.skypro.simplebanking.repository.UserRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+@Service
+public class UserImportService {
+  private final UserRepository userRepository;
+  private final AccountService accountService;
+  private final PasswordEncoder passwordEncoder;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final BankingMetrics bankingMetrics;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService hashExecutor;
+  private final int chunkSize;
+  private final Cache<String, UserImport> imports;
+
+  public UserImportService(
+      UserRepository userRepository,
+      AccountService accountService,
+      PasswordEncoder passwordEncoder,
+      CacheInvalidationBus cacheInvalidationBus,
+      BankingMetrics bankingMetrics,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.user-import.hash-threads}") int hashThreads,
+      @Value("${app.user-import.chunk-size}") int chunkSize,
+      @Value("${app.user-import.history-size}") long historySize) {
+    this.userRepository = userRepository;
+    this.accountService = accountService;
+    this.passwordEncoder = passwordEncoder;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.bankingMetrics = bankingMetrics;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-import-hash-");
+    threadFactory.setDaemon(true);
+    this.hashExecutor = Executors.newFixedThreadPool(Math.max(1, hashThreads), threadFactory);
+    this.chunkSize = Math.max(1, chunkSize);
+    this.imports = Caffeine.newBuilder().maximumSize(historySize).build();
+  }
+
+  public UserImportDTO importUsers(Iterator<CreateUserRequest> requests) {
+    UserImport userImport = new UserImport();
+    imports.put(userImport.id, userImport);
+    try {
+      List<CreateUserRequest> chunk = new ArrayList<>(chunkSize);
+      while (requests.hasNext()) {
+        chunk.add(requests.next());
+        if (chunk.size() == chunkSize) {
+          importChunk(chunk, userImport);
+          chunk.clear();
+        }
+      }
+      if (!chunk.isEmpty()) {
+        importChunk(chunk, userImport);
+      }
+      userImport.finish(UserImportState.COMPLETED, null);
+    } catch (RuntimeException e) {
+      userImport.finish(UserImportState.FAILED, "Import failed");
+      throw e;
+    }
+    return userImport.toDTO();
+  }
+
+  public List<UserImportDTO> listImports() {
+    return imports.asMap().values().stream()
+        .map(UserImport::toDTO)
+        .sorted(Comparator.comparing(UserImportDTO::getStartedAt).reversed())
+        .collect(Collectors.toList());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    hashExecutor.shutdownNow();
+  }
+
+  private void importChunk(List<CreateUserRequest> chunk, UserImport userImport) {
+    Map<String, String> passwords = new LinkedHashMap<>();
+    int failed = 0;
+    int skipped = 0;
+    for (CreateUserRequest request : chunk) {
+      if (!StringUtils.hasText(request.getUsername())
+          || !StringUtils.hasText(request.getPassword())) {
+        failed++;
+      } else if (passwords.putIfAbsent(request.getUsername(), request.getPassword()) != null) {
+        skipped++;
+      }
+    }
+    int candidates = passwords.size();
+    passwords.keySet().removeAll(userRepository.findUsernamesIn(passwords.keySet()));
+    Map<String, CompletableFuture<String>> hashing = new LinkedHashMap<>();
+    passwords.forEach(
+        (username, password) ->
+            hashing.put(
+                username,
+                CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password), hashExecutor)));
+    Map<String, String> encodedPasswords = new LinkedHashMap<>();
+    hashing.forEach((username, hash) -> encodedPasswords.put(username, hash.join()));
+    int created = insertUsers(encodedPasswords);
+    skipped += candidates - created;
+    userImport.record(chunk.size(), created, skipped, failed);
+    bankingMetrics.countImportedUsers("created", created);
+    bankingMetrics.countImportedUsers("skipped", skipped);
+    bankingMetrics.countImportedUsers("failed", failed);
+  }
+
+  private int insertUsers(Map<String, String> encodedPasswords) {
+    while (true) {
+      List<User> users =
+          encodedPasswords.entrySet().stream()
+              .map(entry -> newUser(entry.getKey(), entry.getValue()))
+              .collect(Collectors.toList());
+      try {
+        transactionTemplate.executeWithoutResult(
+            status -> {
+              userRepository.saveAll(users);
+              users.forEach(accountService::createDefaultAccounts);
+              userRepository.flush();
+              users.forEach(
+                  user -> cacheInvalidationBus.userChanged(user.getId(), user.getUsername()));
+            });
+        return users.size();
+      } catch (DataIntegrityViolationException e) {
+        if (!encodedPasswords
+            .keySet()
+            .removeAll(userRepository.findUsernamesIn(encodedPasswords.keySet()))) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private static User newUser(String username, String encodedPassword) {
+    User user = new User();
+    user.setUsername(username);
+    user.setPassword(encodedPassword);
+    return user;
+  }
+
+  private static class UserImport {
+    private final String id = UUID.randomUUID().toString();
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile UserImportState state = UserImportState.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    private void record(int processed, int created, int skipped, int failed) {
+      this.created.addAndGet(created);
+      this.skipped.addAndGet(skipped);
+      this.failed.addAndGet(failed);
+      this.processed.addAndGet(processed);
+    }
+
+    private void finish(UserImportState state, String error) {
+      this.error = error;
+      this.finishedAt = Instant.now();
+      this.state = state;
+    }
+
+    private UserImportDTO toDTO() {
+      return new UserImportDTO(
+          id,
+          state,
+          startedAt,
+          finishedAt,
+          processed.get(),
+          created.get(),
+          skipped.get(),
+          failed.get(),
+          error);
+    }
+  }
+}
@@ -1,64 +1,118 @@
 package com.skypro.simplebanking.service;
 
+import com.skypro.simplebanking.configuration.ReplicaStalenessPolicy;
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.ListAccountDTO;
 import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.dto.UserAccountRow;
 import com.skypro.simplebanking.dto.UserDTO;
 import com.skypro.simplebanking.entity.User;
 import com.skypro.simplebanking.exception.UserAlreadyExistsException;
 import com.skypro.simplebanking.repository.UserRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class UserService implements UserDetailsService {
+  private static final int MAX_LIST_PAGE_SIZE = 1000;
+
   private final UserRepository userRepository;
   private final AccountService accountService;
   private final PasswordEncoder passwordEncoder;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final ReplicaStalenessPolicy stalenessPolicy;
+  private final TransactionTemplate readOnlyTransaction;
 
   public UserService(
       UserRepository userRepository,
       AccountService accountService,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder,
+      CacheInvalidationBus cacheInvalidationBus,
+      ReplicaStalenessPolicy stalenessPolicy,
+      PlatformTransactionManager transactionManager) {
     this.userRepository = userRepository;
     this.accountService = accountService;
     this.passwordEncoder = passwordEncoder;
+    this.cacheInvalidationBus = cacheInvalidationBus;
+    this.stalenessPolicy = stalenessPolicy;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
   }
 
   @Override
-  @Transactional(readOnly = true)
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    return userRepository
-        .findByUsername(username)
-        .map(BankingUserDetails::from)
+    Supplier<Optional<BankingUserDetails>> lookup =
+        () ->
+            readOnlyTransaction.execute(
+                status -> userRepository.findUserDetailsByUsername(username));
+    return (stalenessPolicy.requiresPrimary(username)
+            ? stalenessPolicy.readFromPrimary(lookup)
+            : lookup.get())
         .orElseThrow(() -> new UsernameNotFoundException("User not found"));
   }
 
   @Transactional
   public UserDTO createUser(String username, String password) {
-    Optional<User> existingUser = userRepository.findByUsername(username);
-    if (existingUser.isPresent()) {
-      throw new UserAlreadyExistsException();
-    }
     User user = new User();
     user.setUsername(username);
     user.setPassword(passwordEncoder.encode(password));
     userRepository.save(user);
     accountService.createDefaultAccounts(user);
+    try {
+      userRepository.flush();
+    } catch (DataIntegrityViolationException e) {
+      throw new UserAlreadyExistsException();
+    }
+    cacheInvalidationBus.userChanged(user.getId(), username);
     return UserDTO.from(user);
   }
   @Transactional(readOnly = true)
   public UserDTO getUser(long id) {
-    return userRepository.findById(id).map(UserDTO::from).orElseThrow();
+    List<UserAccountRow> rows = userRepository.findAccountRowsById(id);
+    if (rows.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    List<AccountDTO> accounts = new ArrayList<>(rows.size());
+    for (UserAccountRow row : rows) {
+      if (row.getAccountId() != null) {
+        accounts.add(
+            accountService.toAccountDTO(row.getAccountId(), row.getAmount(), row.getCurrency()));
+      }
+    }
+    return new UserDTO(id, rows.get(0).getUsername(), accounts);
+  }
+  @Transactional(readOnly = true)
+  public List<ListUserDTO> listUsers(long after, int limit) {
+    int pageSize = Math.max(1, Math.min(limit, MAX_LIST_PAGE_SIZE));
+    List<Long> ids = userRepository.findIdPageAfter(after, PageRequest.of(0, pageSize));
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<ListUserDTO> users = new ArrayList<>(ids.size());
+    ListUserDTO.group(userRepository.findAccountRowsByIdIn(ids).iterator(), users::add);
+    return users;
   }
+
   @Transactional(readOnly = true)
-  public List<ListUserDTO> listUsers() {
-    return userRepository.findAll().stream().map(ListUserDTO::from).collect(Collectors.toList());
+  public void streamUsers(Consumer<ListUserDTO> consumer) {
+    try (Stream<UserAccountRow> rows = userRepository.streamUserAccountRows()) {
+      ListUserDTO.group(rows.iterator(), consumer);
+    }
   }
 }
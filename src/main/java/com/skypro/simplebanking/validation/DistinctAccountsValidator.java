@@ -0,0 +1,14 @@
+package com.skypro.simplebanking.validation;
+
+import com.skypro.simplebanking.dto.TransferRequest;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class DistinctAccountsValidator
+    implements ConstraintValidator<DistinctAccounts, TransferRequest> {
+  @Override
+  public boolean isValid(TransferRequest transferRequest, ConstraintValidatorContext context) {
+    return transferRequest == null
+        || transferRequest.getFromAccountId() != transferRequest.getToAccountId();
+  }
+}
@@ -0,0 +1,53 @@
+CREATE SEQUENCE user_sequence START 1 INCREMENT 100;
+CREATE SEQUENCE account_sequence START 1 INCREMENT 300;
+CREATE SEQUENCE ledger_sequence START 1 INCREMENT 50;
+
+CREATE TABLE users (
+  id BIGINT NOT NULL,
+  username VARCHAR(255) NOT NULL,
+  password VARCHAR(255) NOT NULL,
+  CONSTRAINT users_pkey PRIMARY KEY (id),
+  CONSTRAINT users_username_key UNIQUE (username)
+);
+
+CREATE TABLE accounts (
+  id BIGINT NOT NULL,
+  account_currency INTEGER NOT NULL,
+  amount BIGINT NOT NULL,
+  user_id BIGINT NOT NULL,
+  CONSTRAINT accounts_pkey PRIMARY KEY (id),
+  CONSTRAINT accounts_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (id),
+  CONSTRAINT accounts_amount_check CHECK (amount >= 0)
+);
+
+CREATE INDEX accounts_user_id_id_idx ON accounts (user_id, id);
+
+CREATE TABLE account_stripes (
+  account_id BIGINT NOT NULL,
+  slot INTEGER NOT NULL,
+  amount BIGINT NOT NULL,
+  CONSTRAINT account_stripes_pkey PRIMARY KEY (account_id, slot)
+);
+
+CREATE TABLE ledger_entries (
+  id BIGINT NOT NULL,
+  account_id BIGINT NOT NULL,
+  delta BIGINT NOT NULL,
+  balance BIGINT NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  correlation_id VARCHAR(255) NOT NULL,
+  CONSTRAINT ledger_entries_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX ledger_entries_account_id_id_idx ON ledger_entries (account_id, id);
+
+CREATE TABLE idempotency_keys (
+  user_id BIGINT NOT NULL,
+  idempotency_key VARCHAR(255) NOT NULL,
+  fingerprint VARCHAR(255) NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  response TEXT,
+  CONSTRAINT idempotency_keys_pkey PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX idempotency_keys_created_at_idx ON idempotency_keys (created_at);
@@ -0,0 +1,18 @@
+CREATE SEQUENCE fx_conversion_sequence START 1 INCREMENT 50;
+
+CREATE TABLE fx_conversions (
+  id BIGINT NOT NULL,
+  from_account_id BIGINT NOT NULL,
+  to_account_id BIGINT NOT NULL,
+  from_currency INTEGER NOT NULL,
+  to_currency INTEGER NOT NULL,
+  from_amount BIGINT NOT NULL,
+  to_amount BIGINT NOT NULL,
+  rate BIGINT NOT NULL,
+  rate_loaded_at TIMESTAMP NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  CONSTRAINT fx_conversions_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX fx_conversions_from_account_id_idx ON fx_conversions (from_account_id);
+CREATE INDEX fx_conversions_to_account_id_idx ON fx_conversions (to_account_id);
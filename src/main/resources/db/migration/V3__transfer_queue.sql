@@ -0,0 +1,22 @@
+CREATE SEQUENCE transfer_queue_sequence START 1 INCREMENT 50;
+
+CREATE TABLE transfer_queue (
+  id BIGINT NOT NULL,
+  user_id BIGINT NOT NULL,
+  from_account_id BIGINT NOT NULL,
+  to_user_id BIGINT NOT NULL,
+  to_account_id BIGINT NOT NULL,
+  amount BIGINT NOT NULL,
+  allow_conversion BOOLEAN NOT NULL,
+  status INTEGER NOT NULL,
+  attempts INTEGER NOT NULL,
+  error VARCHAR(255),
+  created_at TIMESTAMP NOT NULL,
+  claimed_at TIMESTAMP,
+  completed_at TIMESTAMP,
+  CONSTRAINT transfer_queue_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX transfer_queue_user_id_id_idx ON transfer_queue (user_id, id);
+CREATE INDEX transfer_queue_pending_idx ON transfer_queue (id) WHERE status = 0;
+CREATE INDEX transfer_queue_processing_idx ON transfer_queue (claimed_at) WHERE status = 1;
@@ -0,0 +1,138 @@
+package com.skypro.simplebanking.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.skypro.simplebanking.EmbeddedPostgresTest;
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.UserService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Runs against two unrelated databases, so a row inserted into only one of them shows which
+ * side a read was routed to.
+ */
+class ReadWriteRoutingDataSourceTest extends EmbeddedPostgresTest {
+  private static final EmbeddedPostgres REPLICA = startReplica();
+  private static final long ID_BASE = 30_000_000;
+  private static final AtomicLong IDS = new AtomicLong(ID_BASE);
+
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  private final JdbcTemplate replicaJdbcTemplate =
+      new JdbcTemplate(REPLICA.getPostgresDatabase());
+
+  @DynamicPropertySource
+  static void replica(DynamicPropertyRegistry registry) {
+    registry.add(
+        "app.datasource.replica.url", () -> REPLICA.getJdbcUrl("postgres", "postgres"));
+  }
+
+  @AfterEach
+  void cleanUp() {
+    SecurityContextHolder.clearContext();
+    for (JdbcTemplate template : List.of(jdbcTemplate, replicaJdbcTemplate)) {
+      template.update("DELETE FROM ledger_entries WHERE account_id > ?", ID_BASE);
+      template.update("DELETE FROM accounts WHERE user_id > ?", ID_BASE);
+      template.update("DELETE FROM users WHERE id > ?", ID_BASE);
+    }
+  }
+
+  @Test
+  void readOnlyTransactionsGoToTheReplica() {
+    String replicaOnly = insertUser(replicaJdbcTemplate).username;
+    SeededUser primaryOnly = insertUser(jdbcTemplate);
+
+    assertThat(userService.loadUserByUsername(replicaOnly).getUsername()).isEqualTo(replicaOnly);
+    assertThatThrownBy(() -> userService.loadUserByUsername(primaryOnly.username))
+        .isInstanceOf(UsernameNotFoundException.class);
+    assertThatThrownBy(() -> userService.getUser(primaryOnly.id))
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void recentlyWrittenUsernamesAreReadFromThePrimary() {
+    String username = "routing-" + UUID.randomUUID();
+    userService.createUser(username, "password");
+
+    assertThat(userService.loadUserByUsername(username).getUsername()).isEqualTo(username);
+  }
+
+  @Test
+  void recentWritersReadFromThePrimary() {
+    SeededUser user = insertUser(jdbcTemplate);
+    assertThatThrownBy(() -> userService.getUser(user.id))
+        .isInstanceOf(NoSuchElementException.class);
+    BankingUserDetails details = new BankingUserDetails(user.id, user.username, "", false);
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+
+    accountService.depositToAccount(user.id, user.accountId, 100);
+
+    assertThat(userService.getUser(user.id).getAccounts())
+        .singleElement()
+        .satisfies(account -> assertThat(account.getAmount()).isEqualTo(101));
+  }
+
+  @Test
+  void cacheLoadsReadFromThePrimary() {
+    SeededUser user = insertUser(jdbcTemplate);
+
+    assertThat(accountService.getAccount(user.id, user.accountId).getAmount()).isEqualTo(1);
+  }
+
+  private static SeededUser insertUser(JdbcTemplate template) {
+    long id = IDS.incrementAndGet();
+    SeededUser user = new SeededUser(id, "routing-" + id, id);
+    template.update(
+        "INSERT INTO users (id, username, password) VALUES (?, ?, 'password')",
+        user.id,
+        user.username);
+    template.update(
+        "INSERT INTO accounts (id, account_currency, amount, user_id) VALUES (?, 0, 1, ?)",
+        user.accountId,
+        user.id);
+    return user;
+  }
+
+  private static EmbeddedPostgres startReplica() {
+    try {
+      EmbeddedPostgres replica = EmbeddedPostgres.builder().start();
+      Flyway.configure().dataSource(replica.getPostgresDatabase()).load().migrate();
+      return replica;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static class SeededUser {
+    private final long id;
+    private final String username;
+    private final long accountId;
+
+    private SeededUser(long id, String username, long accountId) {
+      this.id = id;
+      this.username = username;
+      this.accountId = accountId;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.skypro.simplebanking.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.skypro.simplebanking.EmbeddedPostgresTest;
+import com.skypro.simplebanking.service.UserService;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@AutoConfigureMockMvc
+class UserControllerStatementCountTest extends EmbeddedPostgresTest {
+  private static final String PASSWORD = "password";
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private UserService userService;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private String authorization;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    String username = "statements-" + UUID.randomUUID();
+    userService.createUser(username, PASSWORD);
+    authorization =
+        "Basic "
+            + Base64.getEncoder()
+                .encodeToString((username + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+    mockMvc.perform(authorized(get("/user/me"))).andExpect(status().isOk());
+  }
+
+  @Test
+  void getMyProfileRunsOneStatement() throws Exception {
+    assertThat(statementsFor(get("/user/me"))).isEqualTo(1);
+  }
+
+  @Test
+  void listUsersRunsTwoStatements() throws Exception {
+    assertThat(statementsFor(get("/user/list").param("limit", "50"))).isEqualTo(2);
+  }
+
+  private long statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+    long before = statistics.getPrepareStatementCount();
+    mockMvc.perform(authorized(request)).andExpect(status().isOk());
+    return statistics.getPrepareStatementCount() - before;
+  }
+
+  private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+    return request.header(HttpHeaders.AUTHORIZATION, authorization);
+  }
+}
@@ -0,0 +1,22 @@
+package com.skypro.simplebanking.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class RecordingStatementInspector implements StatementInspector {
+  private static final ThreadLocal<List<String>> STATEMENTS =
+      ThreadLocal.withInitial(ArrayList::new);
+
+  @Override
+  public String inspect(String sql) {
+    STATEMENTS.get().add(sql);
+    return sql;
+  }
+
+  static List<String> drain() {
+    List<String> statements = List.copyOf(STATEMENTS.get());
+    STATEMENTS.get().clear();
+    return statements;
+  }
+}
@@ -0,0 +1,300 @@
+package com.skypro.simplebanking.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.EmbeddedPostgresTest;
+import com.skypro.simplebanking.entity.QueuedTransferStatus;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(
+    properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.skypro.simplebanking.repository.RecordingStatementInspector")
+class RepositoryQueryPlanTest extends EmbeddedPostgresTest {
+  private static final long SEEDED_ID_BASE = 10_000_000;
+  private static final int SEEDED_USERS = 5_000;
+  private static final long USER_ID = SEEDED_ID_BASE + 1_234;
+  private static final long ACCOUNT_ID = SEEDED_ID_BASE + 1_234 * 3 + 1;
+  private static final String USERNAME = "plan-1234";
+  private static final Instant NOW = Instant.now();
+
+  @Autowired private UserRepository userRepository;
+  @Autowired private AccountRepository accountRepository;
+  @Autowired private AccountStripeRepository accountStripeRepository;
+  @Autowired private LedgerEntryRepository ledgerEntryRepository;
+  @Autowired private QueuedTransferRepository queuedTransferRepository;
+  @Autowired private IdempotencyRecordRepository idempotencyRecordRepository;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.update(
+        "INSERT INTO users (id, username, password)"
+            + " SELECT ? + g, 'plan-' || g, 'password' FROM generate_series(1, ?) g",
+        SEEDED_ID_BASE,
+        SEEDED_USERS);
+    jdbcTemplate.update(
+        "INSERT INTO accounts (id, account_currency, amount, user_id)"
+            + " SELECT ? + g * 3 + c, c, 1, ? + g"
+            + " FROM generate_series(1, ?) g, generate_series(0, 2) c",
+        SEEDED_ID_BASE,
+        SEEDED_ID_BASE,
+        SEEDED_USERS);
+    jdbcTemplate.update(
+        "INSERT INTO account_stripes (account_id, slot, amount)"
+            + " SELECT a.id, s, 1 FROM accounts a, generate_series(0, 3) s WHERE a.user_id > ?",
+        SEEDED_ID_BASE);
+    jdbcTemplate.update(
+        "INSERT INTO ledger_entries (id, account_id, delta, balance, created_at, correlation_id)"
+            + " SELECT ? + (a.id - ?) * 4 + k, a.id, 1, 1, now(), 'plan'"
+            + " FROM accounts a, generate_series(0, 3) k WHERE a.user_id > ?",
+        SEEDED_ID_BASE,
+        SEEDED_ID_BASE,
+        SEEDED_ID_BASE);
+    jdbcTemplate.update(
+        "INSERT INTO transfer_queue (id, user_id, from_account_id, to_user_id, to_account_id,"
+            + " amount, allow_conversion, status, attempts, created_at, claimed_at)"
+            + " SELECT ? + g, ? + g, ? + g * 3, ? + g, ? + g * 3, 1, false,"
+            + " CASE g % 100 WHEN 0 THEN 0 WHEN 1 THEN 1 ELSE 2 END, 0, now(),"
+            + " CASE WHEN g % 100 = 1 THEN now() END"
+            + " FROM generate_series(1, ?) g",
+        SEEDED_ID_BASE,
+        SEEDED_ID_BASE,
+        SEEDED_ID_BASE,
+        SEEDED_ID_BASE,
+        SEEDED_ID_BASE,
+        SEEDED_USERS);
+    jdbcTemplate.update(
+        "INSERT INTO idempotency_keys (user_id, idempotency_key, fingerprint, created_at)"
+            + " SELECT ? + g, 'plan-' || g, 'plan', now() - g * interval '1 second'"
+            + " FROM generate_series(1, ?) g",
+        SEEDED_ID_BASE,
+        SEEDED_USERS);
+    for (String table :
+        List.of(
+            "users",
+            "accounts",
+            "account_stripes",
+            "ledger_entries",
+            "transfer_queue",
+            "idempotency_keys")) {
+      jdbcTemplate.execute("ANALYZE " + table);
+    }
+  }
+
+  @AfterAll
+  static void deleteSeeded(@Autowired JdbcTemplate jdbcTemplate) {
+    jdbcTemplate.update("DELETE FROM ledger_entries WHERE account_id > ?", SEEDED_ID_BASE);
+    jdbcTemplate.update("DELETE FROM account_stripes WHERE account_id > ?", SEEDED_ID_BASE);
+    jdbcTemplate.update("DELETE FROM transfer_queue WHERE user_id > ?", SEEDED_ID_BASE);
+    jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id > ?", SEEDED_ID_BASE);
+    jdbcTemplate.update("DELETE FROM accounts WHERE user_id > ?", SEEDED_ID_BASE);
+    jdbcTemplate.update("DELETE FROM users WHERE id > ?", SEEDED_ID_BASE);
+  }
+
+  @BeforeEach
+  void clearStatements() {
+    RecordingStatementInspector.drain();
+  }
+
+  @Test
+  void findUserDetailsByUsernameUsesUsernameKey() {
+    userRepository.findUserDetailsByUsername(USERNAME);
+
+    assertThat(explainRecorded(USERNAME)).contains("users_username_key");
+  }
+
+  @Test
+  void findUsernamesInUsesUsernameKey() {
+    userRepository.findUsernamesIn(List.of(USERNAME, "plan-4321"));
+
+    assertThat(explainRecorded(USERNAME, "plan-4321")).contains("users_username_key");
+  }
+
+  @Test
+  void findAccountRowsByIdUsesUserAccountIndex() {
+    userRepository.findAccountRowsById(USER_ID);
+
+    assertThat(explainRecorded(USER_ID))
+        .contains("users_pkey")
+        .contains("accounts_user_id_id_idx");
+  }
+
+  @Test
+  void findIdPageAfterUsesPrimaryKey() {
+    userRepository.findIdPageAfter(USER_ID, PageRequest.of(0, 100));
+
+    assertThat(explainRecorded(USER_ID, 100)).contains("users_pkey");
+  }
+
+  @Test
+  void findAccountRowsByIdInUsesUserAccountIndex() {
+    userRepository.findAccountRowsByIdIn(List.of(USER_ID, USER_ID + 1));
+
+    assertThat(explainRecorded(USER_ID, USER_ID + 1))
+        .contains("users_pkey")
+        .contains("accounts_user_id_id_idx");
+  }
+
+  @Test
+  void findAccountUsesUserAccountIndex() {
+    accountRepository.findAccount(USER_ID, ACCOUNT_ID);
+
+    assertThat(explainRecorded(USER_ID, ACCOUNT_ID)).contains("accounts_user_id_id_idx");
+  }
+
+  @Test
+  void existsByUserIdAndIdUsesUserAccountIndex() {
+    accountRepository.existsByUser_IdAndId(USER_ID, ACCOUNT_ID);
+
+    assertThat(explainRecorded(USER_ID, ACCOUNT_ID, 1)).contains("accounts_user_id_id_idx");
+  }
+
+  @Test
+  void findAllByIdInForUpdateUsesPrimaryKey() {
+    transactionTemplate.executeWithoutResult(
+        status -> accountRepository.findAllByIdInForUpdate(List.of(ACCOUNT_ID, ACCOUNT_ID + 1)));
+
+    assertThat(explainRecorded(ACCOUNT_ID, ACCOUNT_ID + 1)).contains("accounts_pkey");
+  }
+
+  @Test
+  void depositToAccountUsesUserAccountIndex() {
+    accountRepository.depositToAccount(USER_ID, ACCOUNT_ID, 1, "plan", NOW);
+
+    assertThat(explainRecorded(1, ACCOUNT_ID, USER_ID, 1, Timestamp.from(NOW), "plan"))
+        .contains("accounts_user_id_id_idx");
+  }
+
+  @Test
+  void withdrawFromAccountUsesUserAccountIndex() {
+    accountRepository.withdrawFromAccount(USER_ID, ACCOUNT_ID, 1, "plan", NOW);
+
+    assertThat(explainRecorded(1, ACCOUNT_ID, USER_ID, 1, 1, Timestamp.from(NOW), "plan"))
+        .contains("accounts_user_id_id_idx");
+  }
+
+  @Test
+  void findPageBeforeUsesAccountLedgerIndex() {
+    ledgerEntryRepository.findPageBefore(ACCOUNT_ID, Long.MAX_VALUE, PageRequest.of(0, 20));
+
+    assertThat(explainRecorded(ACCOUNT_ID, Long.MAX_VALUE, 20))
+        .contains("ledger_entries_account_id_id_idx");
+  }
+
+  @Test
+  void findByStatusSkipLockedUsesPendingIndex() {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            queuedTransferRepository.findByStatusSkipLocked(
+                QueuedTransferStatus.PENDING, PageRequest.of(0, 10)));
+
+    assertThat(explainRecorded(QueuedTransferStatus.PENDING.ordinal(), 10))
+        .contains("transfer_queue_pending_idx");
+  }
+
+  @Test
+  void releaseClaimsBeforeUsesProcessingIndex() {
+    Instant before = NOW.minusSeconds(3_600);
+    transactionTemplate.executeWithoutResult(
+        status ->
+            queuedTransferRepository.releaseClaimsBefore(
+                QueuedTransferStatus.PENDING, QueuedTransferStatus.PROCESSING, before));
+
+    assertThat(
+            explainRecorded(
+                QueuedTransferStatus.PENDING.ordinal(),
+                QueuedTransferStatus.PROCESSING.ordinal(),
+                Timestamp.from(before)))
+        .contains("transfer_queue_processing_idx");
+  }
+
+  @Test
+  void idempotencyClaimInsertsWithoutScanning() {
+    idempotencyRecordRepository.claim(USER_ID, "plan-claim", "plan", NOW);
+
+    assertThat(explainRecorded(USER_ID, "plan-claim", "plan", Timestamp.from(NOW)))
+        .contains("Conflict Resolution: NOTHING");
+  }
+
+  @Test
+  void findByUserIdAndIdempotencyKeyUsesPrimaryKey() {
+    idempotencyRecordRepository.findByUserIdAndIdempotencyKey(USER_ID, USERNAME);
+
+    assertThat(explainRecorded(USER_ID, USERNAME)).contains("idempotency_keys_pkey");
+  }
+
+  @Test
+  void deleteCreatedBeforeUsesCreatedAtIndex() {
+    Instant cutoff = NOW.minusSeconds(SEEDED_USERS - 10);
+    idempotencyRecordRepository.deleteCreatedBefore(cutoff);
+
+    assertThat(explainRecorded(Timestamp.from(cutoff)))
+        .contains("idempotency_keys_created_at_idx");
+  }
+
+  @Test
+  void addToStripeUsesUserAccountIndexAndStripeKey() {
+    accountStripeRepository.addToStripe(USER_ID, ACCOUNT_ID, 1, 1);
+
+    assertThat(explainRecorded(1, 1, ACCOUNT_ID, USER_ID))
+        .contains("accounts_user_id_id_idx")
+        .contains("account_stripes_pkey");
+  }
+
+  @Test
+  void lockAccountRowsUsesPrimaryKey() {
+    transactionTemplate.executeWithoutResult(
+        status -> accountStripeRepository.lockAccountRows(List.of(ACCOUNT_ID, ACCOUNT_ID + 1)));
+
+    assertThat(explainRecorded(ACCOUNT_ID, ACCOUNT_ID + 1)).contains("accounts_pkey");
+  }
+
+  @Test
+  void foldStripesUsesPrimaryKeys() {
+    accountStripeRepository.foldStripes(ACCOUNT_ID);
+
+    assertThat(explainRecorded(ACCOUNT_ID, ACCOUNT_ID, ACCOUNT_ID))
+        .contains("accounts_pkey")
+        .contains("account_stripes_pkey");
+  }
+
+  @Test
+  void sumStripesUsesPrimaryKey() {
+    accountStripeRepository.sumStripes(ACCOUNT_ID);
+
+    assertThat(explainRecorded(ACCOUNT_ID)).contains("account_stripes_pkey");
+  }
+
+  @Test
+  void findBalanceUsesUserAccountIndexAndStripeKey() {
+    accountStripeRepository.findBalance(USER_ID, ACCOUNT_ID);
+
+    assertThat(explainRecorded(ACCOUNT_ID, USER_ID))
+        .contains("accounts_user_id_id_idx")
+        .contains("account_stripes_pkey");
+  }
+
+  private String explainRecorded(Object... parameters) {
+    List<String> statements = RecordingStatementInspector.drain();
+    assertThat(statements).hasSize(1);
+    String plan =
+        String.join(
+            "\n",
+            jdbcTemplate.queryForList("EXPLAIN " + statements.get(0), String.class, parameters));
+    assertThat(plan).doesNotContain("Seq Scan");
+    return plan;
+  }
+}
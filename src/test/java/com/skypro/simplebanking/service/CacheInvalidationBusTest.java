@@ -0,0 +1,166 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.skypro.simplebanking.EmbeddedPostgresTest;
+import com.skypro.simplebanking.SimpleBankingApplication;
+import com.skypro.simplebanking.dto.UserDTO;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class CacheInvalidationBusTest {
+  private static final long DELIVERY_TIMEOUT_SECONDS = 10;
+
+  @Nested
+  class MemoryTransport extends TwoNodes {
+    MemoryTransport() {
+      super("memory");
+    }
+  }
+
+  /** Invalidations travel as NOTIFY, so node2 receives them on its listener thread. */
+  @Nested
+  class PostgresTransport extends TwoNodes {
+    PostgresTransport() {
+      super("postgres");
+    }
+  }
+
+  @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+  abstract static class TwoNodes {
+    private final String transport;
+    private final List<CacheInvalidation> receivedByNode2 = new CopyOnWriteArrayList<>();
+    private ConfigurableApplicationContext node1;
+    private ConfigurableApplicationContext node2;
+    private long userId;
+    private long accountId;
+
+    TwoNodes(String transport) {
+      this.transport = transport;
+    }
+
+    @BeforeAll
+    void startNodes() throws InterruptedException {
+      node1 = startNode();
+      node2 = startNode();
+      node2
+          .getBean(CacheInvalidationChannel.class)
+          .subscribe(
+              (origin, invalidations) -> {
+                if (origin != null) {
+                  receivedByNode2.addAll(invalidations);
+                }
+              });
+      awaitListening();
+    }
+
+    @AfterAll
+    void stopNodes() {
+      node2.close();
+      node1.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+      UserDTO user =
+          node1.getBean(UserService.class).createUser("node-" + UUID.randomUUID(), "password");
+      userId = user.getId();
+      accountId = user.getAccounts().get(0).getId();
+      receivedByNode2.clear();
+    }
+
+    @Test
+    void depositOnOneNodeEvictsCachedBalanceOnTheOther() throws InterruptedException {
+      AccountService node1Accounts = node1.getBean(AccountService.class);
+      AccountService node2Accounts = node2.getBean(AccountService.class);
+      assertThat(node2Accounts.getAccount(userId, accountId).getAmount()).isEqualTo(1);
+
+      node1Accounts.depositToAccount(userId, accountId, 100);
+
+      awaitInvalidation(accountId);
+      assertThat(node2Accounts.getAccount(userId, accountId).getAmount()).isEqualTo(101);
+    }
+
+    @Test
+    void rolledBackWithdrawBroadcastsNothing() throws InterruptedException {
+      AccountService node1Accounts = node1.getBean(AccountService.class);
+      AccountService node2Accounts = node2.getBean(AccountService.class);
+      node1Accounts.depositToAccount(userId, accountId, 100);
+      awaitInvalidation(accountId);
+      assertThat(node2Accounts.getAccount(userId, accountId).getAmount()).isEqualTo(101);
+      receivedByNode2.clear();
+
+      node1
+          .getBean(TransactionTemplate.class)
+          .executeWithoutResult(
+              status -> {
+                node1Accounts.withdrawFromAccount(userId, accountId, 50);
+                status.setRollbackOnly();
+              });
+      // Notifications arrive in commit order, so once this deposit's invalidation is in,
+      // anything the rolled-back withdraw had sent would be too.
+      node1Accounts.depositToAccount(userId, accountId, 1);
+      awaitInvalidation(accountId);
+
+      assertThat(invalidationsFor(accountId)).hasSize(1);
+      assertThat(node1Accounts.getAccount(userId, accountId).getAmount()).isEqualTo(102);
+      assertThat(node2Accounts.getAccount(userId, accountId).getAmount()).isEqualTo(102);
+    }
+
+    /** Broadcasts probes until node2 hears one, so no test runs before LISTEN is in place. */
+    private void awaitListening() throws InterruptedException {
+      CacheInvalidationChannel node1Channel = node1.getBean(CacheInvalidationChannel.class);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DELIVERY_TIMEOUT_SECONDS);
+      while (invalidationsFor(0).isEmpty()) {
+        if (System.nanoTime() > deadline) {
+          fail("node2 did not start receiving invalidations over " + transport);
+        }
+        node1Channel.broadcast("probe", List.of(CacheInvalidation.account(0, 0)));
+        TimeUnit.MILLISECONDS.sleep(100);
+      }
+    }
+
+    private void awaitInvalidation(long accountId) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DELIVERY_TIMEOUT_SECONDS);
+      while (invalidationsFor(accountId).isEmpty()) {
+        if (System.nanoTime() > deadline) {
+          fail("No invalidation for account " + accountId + " reached node2 over " + transport);
+        }
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+    }
+
+    private List<CacheInvalidation> invalidationsFor(long accountId) {
+      return receivedByNode2.stream()
+          .filter(invalidation -> invalidation.getKind() == CacheInvalidation.Kind.ACCOUNT)
+          .filter(invalidation -> invalidation.getAccountId() == accountId)
+          .collect(Collectors.toList());
+    }
+
+    private ConfigurableApplicationContext startNode() {
+      return new SpringApplicationBuilder(SimpleBankingApplication.class)
+          .run(
+              "--server.port=0",
+              "--spring.datasource.url=" + EmbeddedPostgresTest.jdbcUrl(),
+              "--spring.datasource.username=postgres",
+              "--spring.datasource.password=postgres",
+              "--app.cache.invalidation.transport=" + transport,
+              "--app.cache.invalidation.postgres.poll-timeout=100ms",
+              "--app.rate-limit.enabled=false",
+              "--app.transfer-queue.workers=0");
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.EmbeddedPostgresTest;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.QueuedTransferStatus;
+import com.skypro.simplebanking.repository.QueuedTransferRepository;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class TransferQueueServiceTest extends EmbeddedPostgresTest {
+  @Autowired private TransferQueueService transferQueueService;
+  @Autowired private QueuedTransferRepository queuedTransferRepository;
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void releasedClaimIsNotAppliedByItsOriginalWorker() {
+    UserDTO alice = userService.createUser("queue-" + UUID.randomUUID(), "password");
+    UserDTO bob = userService.createUser("queue-" + UUID.randomUUID(), "password");
+    long aliceAccountId = alice.getAccounts().get(0).getId();
+    long bobAccountId = bob.getAccounts().get(0).getId();
+    accountService.depositToAccount(alice.getId(), aliceAccountId, 1_000);
+    long first =
+        transferQueueService
+            .submit(alice.getId(), transfer(aliceAccountId, bob.getId(), bobAccountId))
+            .getId();
+    long second =
+        transferQueueService
+            .submit(alice.getId(), transfer(aliceAccountId, bob.getId(), bobAccountId))
+            .getId();
+
+    TransferQueueClaim staleClaim = transferQueueService.claim(10);
+    assertThat(staleClaim.getIds()).containsExactly(first, second);
+    transferQueueService.process(first, staleClaim.getClaimedAt());
+    transactionTemplate.executeWithoutResult(
+        status ->
+            queuedTransferRepository.releaseClaimsBefore(
+                QueuedTransferStatus.PENDING,
+                QueuedTransferStatus.PROCESSING,
+                Instant.now().plusSeconds(1)));
+    TransferQueueClaim currentClaim = transferQueueService.claim(10);
+    assertThat(currentClaim.getIds()).containsExactly(second);
+    transferQueueService.process(second, staleClaim.getClaimedAt());
+    assertThat(transferQueueService.getTransfer(alice.getId(), second).getStatus())
+        .isEqualTo(QueuedTransferStatus.PROCESSING);
+    assertThat(balance(bobAccountId)).isEqualTo(1 + 10);
+    transferQueueService.process(second, currentClaim.getClaimedAt());
+
+    assertThat(transferQueueService.getTransfer(alice.getId(), second).getStatus())
+        .isEqualTo(QueuedTransferStatus.COMPLETED);
+    assertThat(balance(aliceAccountId)).isEqualTo(1 + 1_000 - 20);
+    assertThat(balance(bobAccountId)).isEqualTo(1 + 20);
+  }
+
+  private static TransferRequest transfer(long fromAccountId, long toUserId, long toAccountId) {
+    TransferRequest request = new TransferRequest();
+    request.setFromAccountId(fromAccountId);
+    request.setToUserId(toUserId);
+    request.setToAccountId(toAccountId);
+    request.setAmount(10);
+    return request;
+  }
+
+  private long balance(long accountId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT amount FROM accounts WHERE id = ?", Long.class, accountId);
+  }
+}
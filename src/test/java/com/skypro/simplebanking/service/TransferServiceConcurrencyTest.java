@@ -0,0 +1,98 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.EmbeddedPostgresTest;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class TransferServiceConcurrencyTest extends EmbeddedPostgresTest {
+  private static final int THREADS = 16;
+  private static final int TRANSFERS_PER_THREAD = 100;
+  private static final long INITIAL_BALANCE = 1_000_000;
+
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private TransferService transferService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void opposingTransfersKeepTotalBalanceWithoutDeadlocks() throws Exception {
+    UserDTO alice = createFundedUser();
+    UserDTO bob = createFundedUser();
+    long aliceAccountId = alice.getAccounts().get(0).getId();
+    long bobAccountId = bob.getAccounts().get(0).getId();
+    long totalBefore = totalBalance(aliceAccountId, bobAccountId);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<?>> results = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      boolean aliceToBob = thread % 2 == 0;
+      results.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                  if (aliceToBob) {
+                    transferService.transfer(
+                        alice.getId(), transfer(aliceAccountId, bob.getId(), bobAccountId));
+                  } else {
+                    transferService.transfer(
+                        bob.getId(), transfer(bobAccountId, alice.getId(), aliceAccountId));
+                  }
+                }
+                return null;
+              }));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+    for (Future<?> result : results) {
+      result.get();
+    }
+
+    assertThat(totalBalance(aliceAccountId, bobAccountId)).isEqualTo(totalBefore);
+    assertThat(ledgerSum(aliceAccountId, bobAccountId)).isEqualTo(totalBefore);
+  }
+
+  private UserDTO createFundedUser() {
+    UserDTO user = userService.createUser("transfer-" + UUID.randomUUID(), "password");
+    AccountDTO account = user.getAccounts().get(0);
+    accountService.depositToAccount(user.getId(), account.getId(), INITIAL_BALANCE);
+    return user;
+  }
+
+  private static TransferRequest transfer(long fromAccountId, long toUserId, long toAccountId) {
+    TransferRequest request = new TransferRequest();
+    request.setFromAccountId(fromAccountId);
+    request.setToUserId(toUserId);
+    request.setToAccountId(toAccountId);
+    request.setAmount(1);
+    return request;
+  }
+
+  private long totalBalance(long... accountIds) {
+    return jdbcTemplate.queryForObject(
+        "SELECT SUM(amount) FROM accounts WHERE id IN (?, ?)",
+        Long.class,
+        accountIds[0],
+        accountIds[1]);
+  }
+
+  private long ledgerSum(long... accountIds) {
+    return jdbcTemplate.queryForObject(
+        "SELECT SUM(delta) FROM ledger_entries WHERE account_id IN (?, ?)",
+        Long.class,
+        accountIds[0],
+        accountIds[1]);
+  }
+}
@@ -0,0 +1,147 @@
+package com.skypro.simplebanking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.skypro.simplebanking.EmbeddedPostgresTest;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+class UserServiceStatementCountTest extends EmbeddedPostgresTest {
+  private static final StatementCountingDataSource STATEMENTS = new StatementCountingDataSource();
+
+  @Autowired private UserService userService;
+
+  /**
+   * A new user costs the user insert, the batched account insert, the batched opening ledger
+   * entries and the pg_notify that tells other nodes to route the new username to the primary.
+   * Sequence fetches are excluded: the sequences are shared by every test in the JVM, so whether
+   * the measured call crosses a pooled-lo block boundary depends on test order, and that cost is
+   * amortised over the block size anyway.
+   */
+  @Test
+  void createUserRunsFourStatementsBesidesSequenceFetches() {
+    userService.createUser("warm-" + UUID.randomUUID(), "password");
+
+    List<String> statements =
+        STATEMENTS.record(
+            () -> userService.createUser("counted-" + UUID.randomUUID(), "password"));
+
+    assertThat(
+            statements.stream()
+                .filter(sql -> !sql.startsWith("select nextval"))
+                .collect(Collectors.toList()))
+        .hasSize(4)
+        .anySatisfy(sql -> assertThat(sql).startsWith("insert into users"))
+        .anySatisfy(sql -> assertThat(sql).startsWith("insert into accounts"))
+        .anySatisfy(sql -> assertThat(sql).startsWith("insert into ledger_entries"))
+        .anySatisfy(sql -> assertThat(sql).isEqualTo("select pg_notify(?, ?)"));
+  }
+
+  @TestConfiguration
+  static class StatementCountingConfiguration {
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof DataSource && !(bean instanceof StatementCountingDataSource)) {
+            STATEMENTS.setTargetDataSource((DataSource) bean);
+            return STATEMENTS;
+          }
+          return bean;
+        }
+      };
+    }
+  }
+
+  /**
+   * Records the SQL of every statement executed on the calling thread, so scheduled tasks running
+   * alongside the measured call do not show up in the count.
+   */
+  static class StatementCountingDataSource extends DelegatingDataSource {
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private volatile Thread recording;
+
+    List<String> record(Runnable action) {
+      executed.clear();
+      recording = Thread.currentThread();
+      try {
+        action.run();
+      } finally {
+        recording = null;
+      }
+      return List.copyOf(executed);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return counting(super.getConnection(username, password));
+    }
+
+    private Connection counting(Connection connection) {
+      return proxy(
+          Connection.class,
+          connection,
+          (method, args, result) -> {
+            if (result instanceof Statement && method.getName().startsWith("prepare")) {
+              return counting(method.getReturnType(), result, (String) args[0]);
+            }
+            if (result instanceof Statement) {
+              return counting(method.getReturnType(), result, null);
+            }
+            return result;
+          });
+    }
+
+    private Object counting(Class<?> type, Object statement, String preparedSql) {
+      return proxy(
+          type,
+          statement,
+          (method, args, result) -> {
+            if (method.getName().startsWith("execute")
+                && Thread.currentThread() == recording) {
+              executed.add(preparedSql != null ? preparedSql : String.valueOf(args[0]));
+            }
+            return result;
+          });
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, ResultDecorator decorator) {
+      return type.cast(
+          Proxy.newProxyInstance(
+              type.getClassLoader(),
+              new Class<?>[] {type},
+              (proxy, method, args) -> {
+                try {
+                  return decorator.decorate(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                  throw e.getTargetException();
+                }
+              }));
+    }
+
+    private interface ResultDecorator {
+      Object decorate(Method method, Object[] args, Object result);
+    }
+  }
+}